@@ -0,0 +1,91 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultCodegen.fromModel, fromOperation and fromProperty over all definitions, operations and
+ * properties of a flattened spec, using the Java client generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodegenBenchmark {
+
+    @Param({Specs.PETSTORE, Specs.LARGE})
+    public String spec;
+
+    private DefaultCodegen config;
+    private Swagger swagger;
+    private Map<String, Property> properties;
+
+    @Setup
+    public void setUp() throws IOException {
+        swagger = Specs.parse(Specs.read(spec));
+        new InlineModelResolver().flatten(swagger);
+        config = new JavaClientCodegen();
+        config.processOpts();
+        config.preprocessSwagger(swagger);
+
+        properties = new LinkedHashMap<String, Property>();
+        for (Map.Entry<String, Model> definition : swagger.getDefinitions().entrySet()) {
+            Map<String, Property> modelProperties = definition.getValue().getProperties();
+            if (modelProperties != null) {
+                for (Map.Entry<String, Property> property : modelProperties.entrySet()) {
+                    properties.put(definition.getKey() + "." + property.getKey(), property.getValue());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        for (Map.Entry<String, Model> definition : swagger.getDefinitions().entrySet()) {
+            blackhole.consume(config.fromModel(definition.getKey(), definition.getValue(), swagger.getDefinitions()));
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (Map.Entry<String, Path> path : swagger.getPaths().entrySet()) {
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().getOperationMap().entrySet()) {
+                blackhole.consume(config.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(),
+                        operation.getValue(), swagger.getDefinitions(), swagger));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        for (Map.Entry<String, Property> property : properties.entrySet()) {
+            blackhole.consume(config.fromProperty(property.getKey(), property.getValue()));
+        }
+    }
+}
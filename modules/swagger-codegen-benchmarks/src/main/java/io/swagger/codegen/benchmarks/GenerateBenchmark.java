@@ -0,0 +1,76 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end generation, from parsing the spec to the rendered files. The files are kept in memory
+ * so that the file system does not distort the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenerateBenchmark {
+
+    @Param({"java", "typescript-angular", "python", "go"})
+    public String language;
+
+    @Param({Specs.PETSTORE, Specs.LARGE})
+    public String spec;
+
+    private String content;
+    private File output;
+
+    @Setup
+    public void setUp() throws IOException {
+        content = Specs.read(spec);
+        output = Files.createTempDirectory("swagger-codegen-benchmark").toFile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(output);
+    }
+
+    @Benchmark
+    public int generate() {
+        CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(output.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        InMemoryOutputSink sink = new InMemoryOutputSink(output);
+        ClientOptInput input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(Specs.parse(content))
+                .config(config)
+                .outputSink(sink);
+        new DefaultGenerator().opts(input).generate();
+        return sink.getFiles().size();
+    }
+}
@@ -0,0 +1,84 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CodegenIgnoreProcessor.allowsFile for the files of a typical Java client with a handful of rules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IgnoreProcessorBenchmark {
+    private static final List<String> RULES = Arrays.asList(
+            "# custom implementations",
+            "src/main/java/io/swagger/client/api/*Api.java",
+            "!src/main/java/io/swagger/client/api/PetApi.java",
+            "docs/*.md",
+            "**/test/**",
+            "*.gradle",
+            "build.sbt");
+
+    private File output;
+    private CodegenIgnoreProcessor processor;
+    private List<File> files;
+
+    @Setup
+    public void setUp() throws IOException {
+        output = Files.createTempDirectory("swagger-codegen-benchmark").toFile();
+        FileUtils.writeLines(new File(output, ".swagger-codegen-ignore"), StandardCharsets.UTF_8.name(), RULES);
+        processor = new CodegenIgnoreProcessor(output.getAbsolutePath());
+
+        files = new ArrayList<File>();
+        for (int i = 0; i < 250; i++) {
+            files.add(new File(output, "src/main/java/io/swagger/client/model/Model" + i + ".java"));
+            files.add(new File(output, "src/test/java/io/swagger/client/model/Model" + i + "Test.java"));
+            files.add(new File(output, "docs/Model" + i + ".md"));
+            if (i % 10 == 0) {
+                files.add(new File(output, "src/main/java/io/swagger/client/api/Tag" + i + "Api.java"));
+            }
+        }
+        files.add(new File(output, "src/main/java/io/swagger/client/api/PetApi.java"));
+        files.add(new File(output, "build.gradle"));
+        files.add(new File(output, "pom.xml"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(output);
+    }
+
+    @Benchmark
+    public int allowsFile() {
+        int allowed = 0;
+        for (File file : files) {
+            if (processor.allowsFile(file)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
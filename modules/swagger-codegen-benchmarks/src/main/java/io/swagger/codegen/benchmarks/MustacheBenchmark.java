@@ -0,0 +1,98 @@
+package io.swagger.codegen.benchmarks;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the Java model template for all models of a spec, with the template compiled once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MustacheBenchmark {
+
+    @Param({Specs.PETSTORE, Specs.LARGE})
+    public String spec;
+
+    private Template template;
+    private List<Map<String, Object>> bundles;
+
+    @Setup
+    public void setUp() throws IOException {
+        final CodegenConfig config = new JavaClientCodegen();
+        config.processOpts();
+        Swagger swagger = Specs.parse(Specs.read(spec));
+        new InlineModelResolver().flatten(swagger);
+        config.preprocessSwagger(swagger);
+
+        final ModelBundles generator = new ModelBundles();
+        template = Mustache.compiler()
+                .withLoader(new Mustache.TemplateLoader() {
+                    @Override
+                    public Reader getTemplate(String name) {
+                        return generator.getTemplateReader(generator.getFullTemplateFile(config, name + ".mustache"));
+                    }
+                })
+                .defaultValue("")
+                .compile(generator.readTemplate(generator.getFullTemplateFile(config, "model.mustache")));
+
+        bundles = new ArrayList<Map<String, Object>>();
+        for (Map.Entry<String, Model> definition : swagger.getDefinitions().entrySet()) {
+            Map<String, Object> bundle = generator.bundle(config, definition.getKey(), definition.getValue(), swagger.getDefinitions());
+            if (bundle != null) {
+                bundles.add(bundle);
+            }
+        }
+    }
+
+    @Benchmark
+    public void render() {
+        for (Map<String, Object> bundle : bundles) {
+            template.execute(bundle, new NullWriter());
+        }
+    }
+
+    /**
+     * Builds the template data of a model the way the generator does.
+     */
+    private static class ModelBundles extends DefaultGenerator {
+        Map<String, Object> bundle(CodegenConfig config, String name, Model model, Map<String, Model> allDefinitions) {
+            Map<String, Object> models = processModels(config, Collections.singletonMap(name, model), allDefinitions);
+            if (models != null) {
+                models.put("classname", config.toModelName(name));
+                models.putAll(config.additionalProperties());
+                models.put("modelPackage", config.modelPackage());
+            }
+            return models;
+        }
+    }
+}
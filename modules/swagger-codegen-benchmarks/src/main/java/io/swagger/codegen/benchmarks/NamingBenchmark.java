@@ -0,0 +1,92 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The naming helpers called for every model, property, operation and parameter name, on the names
+ * found in the large test spec plus a few typical spellings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamingBenchmark {
+
+    private DefaultCodegen config;
+    private List<String> names;
+
+    @Setup
+    public void setUp() throws IOException {
+        config = new JavaClientCodegen();
+        names = new ArrayList<String>(Arrays.asList("snake_case_name", "kebab-case-name", "camelCaseName",
+                "PascalCaseName", "name with spaces", "$special[chars]", "_leadingUnderscore", "UPPER_CASE", "a1b2c3"));
+
+        Swagger swagger = Specs.parse(Specs.read(Specs.LARGE));
+        for (String definition : swagger.getDefinitions().keySet()) {
+            names.add(definition);
+            Model model = swagger.getDefinitions().get(definition);
+            if (model.getProperties() != null) {
+                names.addAll(model.getProperties().keySet());
+            }
+        }
+        for (Path path : swagger.getPaths().values()) {
+            for (Operation operation : path.getOperations()) {
+                if (operation.getOperationId() != null) {
+                    names.add(operation.getOperationId());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(DefaultCodegen.camelize(name));
+        }
+    }
+
+    @Benchmark
+    public void camelizeLowercaseFirstLetter(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(DefaultCodegen.camelize(name, true));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(DefaultCodegen.underscore(name));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(config.sanitizeName(name));
+        }
+    }
+}
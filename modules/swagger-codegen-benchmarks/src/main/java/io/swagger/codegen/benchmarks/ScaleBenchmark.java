@@ -0,0 +1,79 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.codegen.testutils.SyntheticSpecBuilder;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end generation on synthetic specs of a multiple of the petstore's size, to see how the
+ * generator scales. Divide the score by the scale to compare the cost per petstore, it should stay
+ * about the same; run with {@code -prof gc} to compare the allocation the same way.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class ScaleBenchmark {
+
+    @Param({"java", "typescript-angular", "python", "go"})
+    public String language;
+
+    @Param({"1", "10", "50", "100"})
+    public int scale;
+
+    private String content;
+    private File output;
+
+    @Setup
+    public void setUp() throws IOException {
+        content = Json.pretty(SyntheticSpecBuilder.petstoreTimes(scale).build());
+        output = Files.createTempDirectory("swagger-codegen-benchmark").toFile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteQuietly(output);
+    }
+
+    @Benchmark
+    public int generate() {
+        CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(output.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        InMemoryOutputSink sink = new InMemoryOutputSink(output);
+        ClientOptInput input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(Specs.parse(content))
+                .config(config)
+                .outputSink(sink);
+        new DefaultGenerator().opts(input).generate();
+        return sink.getFiles().size();
+    }
+}
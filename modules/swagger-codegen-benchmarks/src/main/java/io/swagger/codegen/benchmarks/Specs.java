@@ -0,0 +1,36 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Specs the benchmarks run on, read from the 2.0 test specs of the generator test jar.
+ */
+final class Specs {
+    static final String PETSTORE = "petstore.yaml";
+    static final String LARGE = "petstore-with-fake-endpoints-models-for-testing.yaml";
+
+    private Specs() {
+    }
+
+    static String read(String name) throws IOException {
+        InputStream in = Specs.class.getClassLoader().getResourceAsStream("2_0/" + name);
+        if (in == null) {
+            throw new IOException("Unknown spec " + name);
+        }
+        try {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        } finally {
+            in.close();
+        }
+    }
+
+    static Swagger parse(String content) {
+        return new SwaggerParser().parse(content);
+    }
+}
@@ -2,6 +2,7 @@ package io.swagger.codegen;
 
 import io.airlift.airline.Cli;
 import io.airlift.airline.Help;
+import io.swagger.codegen.cmd.Batch;
 import io.swagger.codegen.cmd.ConfigHelp;
 import io.swagger.codegen.cmd.Generate;
 import io.swagger.codegen.cmd.Langs;
@@ -29,7 +30,7 @@ public class SwaggerCodegen {
                                         "Swagger code generator CLI (version %s). More info on swagger.io",
                                         version))
                         .withDefaultCommand(Langs.class)
-                        .withCommands(Generate.class, Meta.class, Langs.class, Help.class,
+                        .withCommands(Generate.class, Batch.class, Meta.class, Langs.class, Help.class,
                                 ConfigHelp.class, Validate.class, Version.class);
 
         builder.build().parse(args).run();
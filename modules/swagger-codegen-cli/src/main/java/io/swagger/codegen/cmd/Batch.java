@@ -0,0 +1,94 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.FanOutGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+
+/**
+ * Generates several languages from one spec, parsing the spec only once.
+ */
+@Command(name = "batch", description = "Generate several languages from one spec, parsing it only once")
+public class Batch implements Runnable {
+
+    @Option(name = {"-i", "--input-spec"}, title = "spec file", required = true,
+            description = "location of the swagger spec, as URL or file (required)")
+    private String spec;
+
+    @Option(
+            name = {"-a", "--auth"},
+            title = "authorization",
+            description = "adds authorization headers when fetching the swagger definitions remotely. "
+                    + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
+    private String auth;
+
+    @Option(name = {"-l", "--lang"}, title = "language",
+            description = "language to generate, can be repeated. Each language needs a matching -o option")
+    private List<String> langs = new ArrayList<>();
+
+    @Option(name = {"-o", "--output"}, title = "output directory",
+            description = "where to write the files of the language at the same position")
+    private List<String> outputs = new ArrayList<>();
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of languages generated at the same time (number of available processors by default)")
+    private Integer threads;
+
+    @Option(name = {"--spec-cache"}, title = "spec cache", description = CodegenConstants.SPEC_CACHE_DESC)
+    private Boolean specCache;
+
+    @Option(name = {"--spec-cache-dir"}, title = "spec cache directory", description = CodegenConstants.SPEC_CACHE_DIR_DESC)
+    private String specCacheDir;
+
+    @Arguments(title = "configuration files",
+            description = "json configuration files as for generate -c, each with at least lang and outputDir")
+    private List<String> configFiles = new ArrayList<>();
+
+    @Override
+    public void run() {
+        if (langs.size() != outputs.size()) {
+            throw new IllegalArgumentException("Every -l option needs a matching -o option");
+        }
+        List<CodegenConfigurator> targets = new ArrayList<>();
+        for (int i = 0; i < langs.size(); i++) {
+            targets.add(new CodegenConfigurator().setLang(langs.get(i)).setOutputDir(outputs.get(i)));
+        }
+        for (String configFile : configFiles) {
+            CodegenConfigurator configurator = CodegenConfigurator.fromFile(configFile);
+            if (configurator == null) {
+                throw new IllegalArgumentException("Unable to read configuration file " + configFile);
+            }
+            targets.add(configurator);
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("No languages to generate, pass -l and -o options or configuration files");
+        }
+
+        CodegenConfigurator specReader = new CodegenConfigurator().setInputSpec(spec);
+        if (isNotEmpty(auth)) {
+            specReader.setAuth(auth);
+        }
+        if (specCache != null) {
+            specReader.setSpecCache(specCache);
+        }
+        if (isNotEmpty(specCacheDir)) {
+            specReader.setSpecCacheDir(specCacheDir);
+        }
+        for (CodegenConfigurator target : targets) {
+            target.setInputSpec(spec);
+        }
+
+        FanOutGenerator generator = new FanOutGenerator();
+        if (threads != null) {
+            generator.threads(threads);
+        }
+        generator.generate(specReader.readSwagger(), targets);
+    }
+}
@@ -178,6 +178,31 @@ public class Generate implements Runnable {
     @Option(name = {"--ignore-import-mapping"}, title = "ignore import mapping", description = "allow generate model classes using names previously listed on import mappings.")
     private String ignoreImportMappings;
 
+    @Option(name = {"--parallel-models"}, title = "parallel models", description = CodegenConstants.PARALLEL_MODELS_DESC)
+    private Boolean parallelModels;
+
+    @Option(name = {"--parallel-apis"}, title = "parallel apis", description = CodegenConstants.PARALLEL_APIS_DESC)
+    private Boolean parallelApis;
+
+    @Option(name = {"--parallel-threads"}, title = "parallel threads", description = CodegenConstants.PARALLEL_THREADS_DESC)
+    private Integer parallelThreads;
+
+    @Option(name = {"--incremental"}, title = "incremental", description = CodegenConstants.INCREMENTAL_DESC)
+    private Boolean incremental;
+
+    @Option(name = {"--timings-report"}, title = "timings report file", description = CodegenConstants.TIMINGS_REPORT_DESC)
+    private String timingsReport;
+
+    @Option(name = {"--dry-run"}, title = "dry run", description = CodegenConstants.DRY_RUN_DESC
+            + " The files are printed as JSON.")
+    private Boolean dryRun;
+
+    @Option(name = {"--spec-cache"}, title = "spec cache", description = CodegenConstants.SPEC_CACHE_DESC)
+    private Boolean specCache;
+
+    @Option(name = {"--spec-cache-dir"}, title = "spec cache directory", description = CodegenConstants.SPEC_CACHE_DIR_DESC)
+    private String specCacheDir;
+
     @Override
     public void run() {
 
@@ -283,6 +308,38 @@ public class Generate implements Runnable {
             configurator.setSkipAliasGeneration(skipAliasGeneration);
         }
 
+        if (parallelModels != null) {
+            configurator.setParallelModels(parallelModels);
+        }
+
+        if (parallelApis != null) {
+            configurator.setParallelApis(parallelApis);
+        }
+
+        if (parallelThreads != null) {
+            configurator.setParallelThreads(parallelThreads);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
+        if (isNotEmpty(timingsReport)) {
+            configurator.setTimingsReport(timingsReport);
+        }
+
+        if (dryRun != null) {
+            configurator.setDryRun(dryRun);
+        }
+
+        if (specCache != null) {
+            configurator.setSpecCache(specCache);
+        }
+
+        if (isNotEmpty(specCacheDir)) {
+            configurator.setSpecCacheDir(specCacheDir);
+        }
+
         if (ignoreImportMappings != null) {
             additionalProperties.add(String.format("%s=%s", CodegenConstants.IGNORE_IMPORT_MAPPING_OPTION, Boolean.parseBoolean(ignoreImportMappings)));
         }
@@ -296,6 +353,10 @@ public class Generate implements Runnable {
         applyReservedWordsMappingsKvpList(reservedWordsMappings, configurator);
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
-        new DefaultGenerator().opts(clientOptInput).generate();
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(clientOptInput).generate();
+        if (generator.getGenerationPlan() != null) {
+            System.out.println(generator.getGenerationPlan().toJson());
+        }
     }
 }
@@ -46,6 +46,7 @@ import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.output.GenerationPlan;
 
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
@@ -278,10 +279,52 @@ public class CodeGenMojo extends AbstractMojo {
     private Boolean generateApiDocumentation = true;
 
     /**
-     * Generate the api documentation
+     * Render and write the model files in parallel
+     */
+    @Parameter(name = "parallelModels", required = false)
+    private Boolean parallelModels = false;
+
+    /**
+     * Render and write the api files of different tags in parallel
+     */
+    @Parameter(name = "parallelApis", required = false)
+    private Boolean parallelApis = false;
+
+    /**
+     * Number of worker threads used by parallelModels and parallelApis
+     */
+    @Parameter(name = "parallelThreads", required = false)
+    private Integer parallelThreads;
+
+    /**
+     * Only regenerate the files affected by changes since the previous run
      */
-    @Parameter(name = "withXml", required = false)
-    private Boolean withXml = false;
+    @Parameter(name = "incremental", required = false)
+    private Boolean incremental = false;
+
+    /**
+     * File to write a JSON report with the generation timings to
+     */
+    @Parameter(name = "timingsReport", required = false)
+    private File timingsReport;
+
+    /**
+     * List the files that would be generated without rendering or writing them
+     */
+    @Parameter(name = "dryRun", required = false)
+    private Boolean dryRun = false;
+
+    /**
+     * Keep the parsed spec in an on-disk cache and reuse it while the spec is unchanged
+     */
+    @Parameter(name = "specCache", required = false)
+    private Boolean specCache = false;
+
+    /**
+     * Directory of the spec cache
+     */
+    @Parameter(name = "specCacheDir", required = false)
+    private File specCacheDir;
 
     /**
      * Skip the execution.
@@ -299,9 +342,6 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter
     protected Map<String, String> environmentVariables = new HashMap<String, String>();
 
-    @Parameter
-    protected Map<String, String> originalEnvironmentVariables = new HashMap<String, String>();
-
     @Parameter
     private boolean configHelp = false;
 
@@ -417,30 +457,62 @@ public class CodeGenMojo extends AbstractMojo {
                     configurator.setTemplateDir(this.templateDirectory.getAbsolutePath());
                 }
 
+                if (null != this.parallelModels) {
+                    configurator.setParallelModels(this.parallelModels);
+                }
+
+                if (null != this.parallelApis) {
+                    configurator.setParallelApis(this.parallelApis);
+                }
+
+                if (null != this.parallelThreads) {
+                    configurator.setParallelThreads(this.parallelThreads);
+                }
+
+                if (null != this.incremental) {
+                    configurator.setIncremental(this.incremental);
+                }
+
+                if (null != this.timingsReport) {
+                    configurator.setTimingsReport(this.timingsReport.getAbsolutePath());
+                }
+
+                if (null != this.dryRun) {
+                    configurator.setDryRun(this.dryRun);
+                }
+
+                if (null != this.specCache) {
+                    configurator.setSpecCache(this.specCache);
+                }
+
+                if (null != this.specCacheDir) {
+                    configurator.setSpecCacheDir(this.specCacheDir.getAbsolutePath());
+                }
+
                 configurator.setInputSpec(path + file1);
+                // a null value keeps a system property of the same name from enabling the files
                 if (null != this.generateApis && this.generateApis) {
-                    System.setProperty("apis", "");
+                    configurator.addSystemProperty(CodegenConstants.APIS, "");
                 } else {
-                    System.clearProperty("apis");
+                    configurator.addSystemProperty(CodegenConstants.APIS, null);
                 }
 
                 if (null != this.generateModels && this.generateModels) {
-                    System.setProperty("models", this.modelsToGenerate);
+                    configurator.addSystemProperty(CodegenConstants.MODELS, this.modelsToGenerate);
                 } else {
-                    System.clearProperty("models");
+                    configurator.addSystemProperty(CodegenConstants.MODELS, null);
                 }
 
                 if (null != this.generateSupportingFiles && this.generateSupportingFiles) {
-                    System.setProperty("supportingFiles", this.supportingFilesToGenerate);
+                    configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, this.supportingFilesToGenerate);
                 } else {
-                    System.clearProperty("supportingFiles");
+                    configurator.addSystemProperty(CodegenConstants.SUPPORTING_FILES, null);
                 }
 
-                System.setProperty("modelTests", this.generateModelTests.toString());
-                System.setProperty("modelDocs", this.generateModelDocumentation.toString());
-                System.setProperty("apiTests", this.generateApiTests.toString());
-                System.setProperty("apiDocs", this.generateApiDocumentation.toString());
-                System.setProperty("withXml", this.withXml.toString());
+                configurator.addSystemProperty(CodegenConstants.MODEL_TESTS, this.generateModelTests.toString());
+                configurator.addSystemProperty(CodegenConstants.MODEL_DOCS, this.generateModelDocumentation.toString());
+                configurator.addSystemProperty(CodegenConstants.API_TESTS, this.generateApiTests.toString());
+                configurator.addSystemProperty(CodegenConstants.API_DOCS, this.generateApiDocumentation.toString());
                 if (this.configOptions != null) {
                     if (this.instantiationTypes == null && this.configOptions.containsKey("instantiation-types")) {
                         CodegenConfiguratorUtils.applyInstantiationTypesKvp(this.configOptions.get("instantiation-types").toString(), configurator);
@@ -496,13 +568,11 @@ public class CodeGenMojo extends AbstractMojo {
 
                     while(var10.hasNext()) {
                         String key = (String)var10.next();
-                        this.originalEnvironmentVariables.put(key, System.getProperty(key));
                         String value = (String)this.environmentVariables.get(key);
                         if (value == null) {
                             value = "";
                         }
 
-                        System.setProperty(key, value);
                         configurator.addSystemProperty(key, value);
                     }
                 }
@@ -536,7 +606,13 @@ public class CodeGenMojo extends AbstractMojo {
                 }
 
                 try {
-                    (new DefaultGenerator()).opts(input).generate();
+                    DefaultGenerator generator = new DefaultGenerator();
+                    generator.opts(input).generate();
+                    if (generator.getGenerationPlan() != null) {
+                        for (GenerationPlan.PlannedFile plannedFile : generator.getGenerationPlan().getFiles()) {
+                            this.getLog().info("would generate " + plannedFile.getFile().getPath());
+                        }
+                    }
                     System.out.println("generate success");
                 } catch (Exception var14) {
                     this.getLog().error(var14);
@@ -558,16 +634,5 @@ public class CodeGenMojo extends AbstractMojo {
             String sourceJavaFolder = output.toString() + "/" + sourceFolder;
             project.addCompileSourceRoot(sourceJavaFolder);
         }
-
-        // Reset all environment variables to their original value. This prevents unexpected
-        // behaviour
-        // when running the plugin multiple consecutive times with different configurations.
-        for (Map.Entry<String, String> entry : originalEnvironmentVariables.entrySet()) {
-            if (entry.getValue() == null) {
-                System.clearProperty(entry.getKey());
-            } else {
-                System.setProperty(entry.getKey(), entry.getValue());
-            }
-        }
     }
 }
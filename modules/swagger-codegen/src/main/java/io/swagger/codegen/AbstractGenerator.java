@@ -1,18 +1,33 @@
 package io.swagger.codegen;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.codegen.mustache.EmbeddedTemplateIndex;
+import io.swagger.codegen.output.AbortableOutputStream;
+import io.swagger.codegen.output.DirectoryOutputSink;
+import io.swagger.codegen.output.GenerationPlan;
+import io.swagger.codegen.output.HashingOutputStream;
+import io.swagger.codegen.output.OutputManifest;
+import io.swagger.codegen.output.OutputSink;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,23 +35,195 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
-    @SuppressWarnings("static-method")
+    /**
+     * Manifest of previously written files. When set, files whose content did not change since the
+     * last run are not rewritten, so their modification time is preserved.
+     */
+    protected OutputManifest outputManifest;
+
+    /**
+     * Destination of the generated files.
+     */
+    protected OutputSink outputSink = new DirectoryOutputSink();
+
+    /**
+     * Timings and counters of the generation run.
+     */
+    protected GenerationMetrics metrics = new GenerationMetrics();
+
+    /**
+     * Set for a dry run: files are recorded in the plan instead of being written.
+     */
+    protected GenerationPlan generationPlan;
+
+    // rendered content of a tracked file held in memory before it is known to differ from the previous content
+    private static final int MAX_PENDING_BYTES = 256 * 1024;
+
+    private final Map<String, String> resolvedTemplates = new ConcurrentHashMap<String, String>();
+    // null values mark folders that cannot be indexed
+    private final Map<String, EmbeddedTemplateIndex> embeddedTemplateIndexes = Collections.synchronizedMap(new HashMap<String, EmbeddedTemplateIndex>());
+
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
         File output = new File(filename);
-
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        if (generationPlan != null) {
+            generationPlan.add(output, null, bytes.length);
+            return output;
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
+        long hash = 0;
+        if (outputManifest != null) {
+            hash = OutputManifest.hash(bytes);
+            if (outputManifest.isUnchanged(output, hash)) {
+                LOGGER.info("unchanged file " + filename);
+                metrics.addFile(bytes.length, false);
+                return output;
+            }
+        }
+        LOGGER.info("writing file " + filename);
+        metrics.addFile(bytes.length, true);
 
-        out.write(contents);
+        AbortableOutputStream out = outputSink.openStream(output);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            out.abort();
+            throw e;
+        }
         out.close();
+        if (outputManifest != null) {
+            outputManifest.recordWritten(output, hash);
+        }
+        return output;
+    }
+
+    /**
+     * Render a template into a file. The file is only replaced once the template rendered without errors, and the
+     * output is streamed into the output sink rather than held in memory.
+     *
+     * @param filename Output file name
+     * @param template Compiled template
+     * @param context Template data
+     * @return the output file
+     * @throws IOException if the file cannot be written
+     */
+    public File writeToFile(String filename, Template template, Object context) throws IOException {
+        return writeToFile(filename, null, template, context);
+    }
+
+    /**
+     * Render a template straight into a file and record the time spent under the template name.
+     *
+     * @param filename Output file name
+     * @param templateName Template name used in the metrics, null to not record the template
+     * @param template Compiled template
+     * @param context Template data
+     * @return the output file
+     * @throws IOException if the file cannot be written
+     */
+    public File writeToFile(String filename, String templateName, Template template, Object context) throws IOException {
+        long start = System.nanoTime();
+        File output = new File(filename);
+        // the content of a tracked file may be unchanged, it is held back until it turns out to differ
+        boolean tracked = outputManifest != null && outputManifest.isTracked(output);
+        PendingOutputStream content = new PendingOutputStream(output, tracked ? MAX_PENDING_BYTES : 0);
+        HashingOutputStream out = new HashingOutputStream(content);
+        try {
+            render(template, context, out);
+        } catch (IOException | RuntimeException e) {
+            content.abort();
+            throw e;
+        }
+        if (tracked && outputManifest.isUnchanged(output, out.getHash())) {
+            content.abort();
+            LOGGER.info("unchanged file " + filename);
+            recordRendered(templateName, start, out.getCount(), false);
+            return output;
+        }
+        content.commit();
+        LOGGER.info("writing file " + filename);
+        if (outputManifest != null) {
+            outputManifest.recordWritten(output, out.getHash());
+        }
+        recordRendered(templateName, start, out.getCount(), true);
         return output;
     }
 
+    /**
+     * Rendered content of a file, held in memory up to a limit and only written to the output sink when committed.
+     * Content beyond the limit goes to the sink right away, which then drops it again if the file is aborted.
+     */
+    private class PendingOutputStream extends OutputStream {
+        private final File file;
+        private final int limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private AbortableOutputStream sink;
+
+        PendingOutputStream(File file, int limit) {
+            this.file = file;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (sink == null && buffer.size() + len > limit) {
+                openSink();
+            }
+            if (sink != null) {
+                sink.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (sink != null) {
+                sink.flush();
+            }
+        }
+
+        void commit() throws IOException {
+            if (sink == null) {
+                openSink();
+            }
+            sink.close();
+        }
+
+        void abort() throws IOException {
+            buffer = null;
+            if (sink != null) {
+                sink.abort();
+            }
+        }
+
+        private void openSink() throws IOException {
+            sink = outputSink.openStream(file);
+            buffer.writeTo(sink);
+            buffer = null;
+        }
+    }
+
+    private void recordRendered(String templateName, long start, long bytes, boolean written) {
+        metrics.addFile(bytes, written);
+        if (templateName != null) {
+            metrics.addTemplate(templateName, start, bytes);
+        }
+    }
+
+    /**
+     * Render a template into the given stream, which is flushed but left open to be closed or aborted by the caller.
+     */
+    private static void render(Template template, Object context, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        template.execute(context, writer);
+        writer.flush();
+    }
+
     public String readTemplate(String name) {
         try {
             Reader reader = getTemplateReader(name);
@@ -77,6 +264,16 @@ public abstract class AbstractGenerator {
      * @return String Full template file path
      */
     public String getFullTemplateFile(CodegenConfig config, String templateFile) {
+        String key = config.getLibrary() + '\u0000' + config.templateDir() + '\u0000' + config.embeddedTemplateDir() + '\u0000' + templateFile;
+        String resolved = resolvedTemplates.get(key);
+        if (resolved == null) {
+            resolved = resolveTemplateFile(config, templateFile);
+            resolvedTemplates.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    private String resolveTemplateFile(CodegenConfig config, String templateFile) {
         //1st the code will check if there's a <template folder>/libraries/<library> folder containing the file
         //2nd it will check for the file in the specified <template folder> folder
         //3rd it will check if there's an <embedded template>/libraries/<library> folder containing the file
@@ -111,6 +308,15 @@ public abstract class AbstractGenerator {
         return config.embeddedTemplateDir() + File.separator + templateFile;
     }
 
+    /**
+     * Forget the resolved template locations, templates may have been added to or removed from the template
+     * folders since they were resolved.
+     */
+    protected void clearTemplateLocations() {
+        resolvedTemplates.clear();
+        embeddedTemplateIndexes.clear();
+    }
+
     public String readResourceContents(String resourceFilePath) {
         StringBuilder sb = new StringBuilder();
         Scanner scanner = new Scanner(this.getClass().getResourceAsStream(getCPResourcePath(resourceFilePath)), "UTF-8");
@@ -122,7 +328,20 @@ public abstract class AbstractGenerator {
     }
 
     public boolean embeddedTemplateExists(String name) {
-        return this.getClass().getClassLoader().getResource(getCPResourcePath(name)) != null;
+        String resourcePath = getCPResourcePath(name);
+        int slash = resourcePath.indexOf('/', resourcePath.startsWith("/") ? 1 : 0);
+        if (slash > 0) {
+            String templateDir = resourcePath.substring(0, slash);
+            EmbeddedTemplateIndex index = embeddedTemplateIndexes.get(templateDir);
+            if (index == null && !embeddedTemplateIndexes.containsKey(templateDir)) {
+                index = EmbeddedTemplateIndex.build(this.getClass().getClassLoader(), templateDir);
+                embeddedTemplateIndexes.put(templateDir, index);
+            }
+            if (index != null) {
+                return index.contains(resourcePath);
+            }
+        }
+        return this.getClass().getClassLoader().getResource(resourcePath) != null;
     }
 
     @SuppressWarnings("static-method")
@@ -2,6 +2,7 @@ package io.swagger.codegen;
 
 import io.swagger.annotations.ApiModelProperty;
 import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.output.OutputSink;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 
@@ -12,6 +13,9 @@ public class ClientOptInput {
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private OutputSink outputSink;
+    private GenerationOptions generationOptions;
+    private boolean flattened;
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +32,21 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput outputSink(OutputSink outputSink) {
+        this.setOutputSink(outputSink);
+        return this;
+    }
+
+    public ClientOptInput generationOptions(GenerationOptions generationOptions) {
+        this.setGenerationOptions(generationOptions);
+        return this;
+    }
+
+    public ClientOptInput flattened(boolean flattened) {
+        this.setFlattened(flattened);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -73,4 +92,37 @@ public class ClientOptInput {
     public void setSwagger(Swagger swagger) {
         this.swagger = swagger;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return where the generated files are written to, the local file system if not set
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * @return generator settings of this run, the system properties are used if not set
+     */
+    public GenerationOptions getGenerationOptions() {
+        return generationOptions;
+    }
+
+    public void setGenerationOptions(GenerationOptions generationOptions) {
+        this.generationOptions = generationOptions;
+    }
+
+    /**
+     * @return true if the inline models of the spec are resolved already, so the generator does not flatten it again
+     */
+    public boolean isFlattened() {
+        return flattened;
+    }
+
+    public void setFlattened(boolean flattened) {
+        this.flattened = flattened;
+    }
+}
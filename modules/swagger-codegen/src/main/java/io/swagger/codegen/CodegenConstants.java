@@ -14,8 +14,21 @@ public class CodegenConstants {
     public static final String API_TESTS = "apiTests";
     public static final String API_DOCS = "apiDocs";
     public static final String WITH_XML = "withXml";
+    public static final String PARALLEL_MODELS = "parallelModels";
+    public static final String PARALLEL_APIS = "parallelApis";
+    public static final String PARALLEL_THREADS = "parallelThreads";
+    public static final String INCREMENTAL = "incremental";
+    public static final String TIMINGS_REPORT = "timingsReport";
+    public static final String DRY_RUN = "dryRun";
+    public static final String DEBUG_SWAGGER = "debugSwagger";
+    public static final String DEBUG_MODELS = "debugModels";
+    public static final String DEBUG_OPERATIONS = "debugOperations";
+    public static final String DEBUG_SUPPORTING_FILES = "debugSupportingFiles";
     /* /end System Properties */
 
+    public static final String SPEC_CACHE = "specCache";
+    public static final String SPEC_CACHE_DIR = "specCacheDir";
+
     public static final String API_PACKAGE = "apiPackage";
     public static final String API_PACKAGE_DESC = "package for generated api classes";
 
@@ -27,6 +40,12 @@ public class CodegenConstants {
     public static final String ALLOW_UNICODE_IDENTIFIERS = "allowUnicodeIdentifiers";
     public static final String ALLOW_UNICODE_IDENTIFIERS_DESC = "boolean, toggles whether unicode identifiers are allowed in names or not, default is false";
 
+    public static final String MEMOIZE_NAMES = "memoizeNames";
+    public static final String MEMOIZE_NAMES_DESC = "boolean, keep the sanitized and camelized names computed during generation and reuse them, default is true";
+
+    public static final String MEMOIZE_PROPERTIES = "memoizeProperties";
+    public static final String MEMOIZE_PROPERTIES_DESC = "boolean, convert a property of the spec once per name and reuse copies of the result, disable for generators whose property conversion is not a function of the property alone, default is true";
+
     public static final String INVOKER_PACKAGE = "invokerPackage";
     public static final String INVOKER_PACKAGE_DESC = "root package for generated code";
 
@@ -236,4 +255,13 @@ public class CodegenConstants {
     public static final String INTERFACE_CONTROLLER = "interface-controller";
 
     public static final String IGNORE_IMPORT_MAPPING_OPTION = "ignoreImportMappings";
+
+    public static final String PARALLEL_MODELS_DESC = "Render and write model, model test and model doc files in parallel. Output is identical to a serial run.";
+    public static final String PARALLEL_APIS_DESC = "Render and write api, api test and api doc files of different tags in parallel. Output is identical to a serial run.";
+    public static final String TIMINGS_REPORT_DESC = "Write a JSON report with the time spent per generation phase, template, model and api, and the number of files and bytes produced, to the given file.";
+    public static final String DRY_RUN_DESC = "Process the spec and the ignore file and list the files that would be generated, with estimated sizes, without rendering or writing any of them.";
+    public static final String INCREMENTAL_DESC = "Only regenerate the files whose definitions, operations or configuration changed since the previous run into the same output folder.";
+    public static final String SPEC_CACHE_DESC = "Keep the parsed and flattened spec in an on-disk cache and reuse it as long as the spec, the files it references and the authorization are unchanged. Only local specs are cached.";
+    public static final String SPEC_CACHE_DIR_DESC = "Directory of the spec cache, .swagger-codegen/cache in the user home directory by default.";
+    public static final String PARALLEL_THREADS_DESC = "Number of worker threads used by parallelModels and parallelApis. Defaults to the number of available processors.";
 }
@@ -1,6 +1,5 @@
 package io.swagger.codegen;
 
-import javax.annotation.Nullable;
 import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -12,16 +11,17 @@ import java.util.regex.Pattern;
 
 import io.swagger.models.properties.UntypedProperty;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Lists;
 import com.samskivert.mustache.Mustache.Compiler;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.naming.NameCache;
+import io.swagger.codegen.naming.NameUtils;
+import io.swagger.codegen.utils.Escaper;
 import io.swagger.models.ArrayModel;
 import io.swagger.models.ComposedModel;
 import io.swagger.models.Model;
@@ -117,6 +117,39 @@ public class DefaultCodegen {
 
     protected String ignoreFilePathOverride;
 
+    // remove \t, \n, \r
+    // replace \ with \\
+    // replace " with \"
+    // a backslash before a slash is dropped, as the former round trip through escapeJava and unescapeJava did
+    protected static final Escaper TEXT_ESCAPER = Escaper.builder()
+            .replace("\\/", "/")
+            .replace("\t", " ")
+            .replace("\n", " ")
+            .replace("\r", " ")
+            .replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .build();
+    private static final Escaper QUOTATION_MARK_ESCAPER = Escaper.builder().replace("\"", "\\\"").build();
+
+    protected static final String DEFAULT_NON_NAME_ELEMENT_PATTERN = "[-_:;#]";
+    // keep the results of sanitizeName and removeNonNameElementToCamelCase, see CodegenConstants.MEMOIZE_NAMES
+    protected boolean memoizeNames = true;
+    private final NameCache sanitizedNames = new NameCache();
+    private final NameCache sanitizedUnicodeNames = new NameCache();
+    private final NameCache camelCaseNames = new NameCache();
+    // converted properties by property instance, then by items depth and name, see CodegenConstants.MEMOIZE_PROPERTIES
+    protected boolean memoizeProperties = true;
+    private final Map<Property, Map<String, CodegenProperty>> convertedProperties = new IdentityHashMap<Property, Map<String, CodegenProperty>>();
+    // examples rendered for the definitions of the spec being generated
+    private ExampleCache exampleCache;
+    // fields of the template data, e.g. "examples", which the embedded templates never read and which are
+    // therefore not computed unless custom templates are used
+    protected Set<String> unusedTemplateFields = new HashSet<String>();
+
+    // operation ids taken in the operations map currently being filled by addOperationToGroup
+    private OperationIdRegistry operationIdRegistry;
+    private Map<String, List<CodegenOperation>> operationIdGroups;
+
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
@@ -155,6 +188,18 @@ public class DefaultCodegen {
                     .get(CodegenConstants.ALLOW_UNICODE_IDENTIFIERS).toString()));
         }
 
+        if (additionalProperties.containsKey(CodegenConstants.MEMOIZE_NAMES)) {
+            this.setMemoizeNames(Boolean.valueOf(additionalProperties
+                    .get(CodegenConstants.MEMOIZE_NAMES).toString()));
+        }
+
+        if (additionalProperties.containsKey(CodegenConstants.MEMOIZE_PROPERTIES)) {
+            this.setMemoizeProperties(Boolean.valueOf(additionalProperties
+                    .get(CodegenConstants.MEMOIZE_PROPERTIES).toString()));
+        }
+        // the options may change the conversion of properties converted before
+        convertedProperties.clear();
+
         if(additionalProperties.containsKey(CodegenConstants.MODEL_NAME_PREFIX)){
             this.setModelNamePrefix((String) additionalProperties.get(CodegenConstants.MODEL_NAME_PREFIX));
         }
@@ -425,18 +470,8 @@ public class DefaultCodegen {
             return input;
         }
 
-        // remove \t, \n, \r
-        // replace \ with \\
-        // replace " with \"
-        // outter unescape to retain the original multi-byte characters
         // finally escalate characters avoiding code injection
-        return escapeUnsafeCharacters(
-                StringEscapeUtils.unescapeJava(
-                        StringEscapeUtils.escapeJava(input)
-                                .replace("\\/", "/"))
-                        .replaceAll("[\\t\\n\\r]"," ")
-                        .replace("\\", "\\\\")
-                        .replace("\"", "\\\""));
+        return escapeUnsafeCharacters(TEXT_ESCAPER.escape(input));
     }
 
     /**
@@ -463,7 +498,7 @@ public class DefaultCodegen {
     public String escapeQuotationMark(String input) {
         LOGGER.warn("escapeQuotationMark should be overridden in the code generator with proper logic to escape " +
                 "single/double quote");
-        return input.replace("\"", "\\\"");
+        return QUOTATION_MARK_ESCAPER.escape(input);
     }
 
     public Set<String> defaultIncludes() {
@@ -642,6 +677,23 @@ public class DefaultCodegen {
         this.allowUnicodeIdentifiers = allowUnicodeIdentifiers;
     }
 
+    public boolean isMemoizeNames() {
+        return memoizeNames;
+    }
+
+    public void setMemoizeNames(boolean memoizeNames) {
+        this.memoizeNames = memoizeNames;
+    }
+
+    public boolean isMemoizeProperties() {
+        return memoizeProperties;
+    }
+
+    public void setMemoizeProperties(boolean memoizeProperties) {
+        this.memoizeProperties = memoizeProperties;
+        convertedProperties.clear();
+    }
+
     /**
      * Return the regular expression/JSON schema pattern (http://json-schema.org/latest/json-schema-validation.html#anchor33)
      *
@@ -1657,7 +1709,40 @@ public class DefaultCodegen {
             LOGGER.error("unexpected missing property for name " + name);
             return null;
         }
+        if (!memoizeProperties) {
+            return convertProperty(name, p, itemsDepth);
+        }
+
+        // the same property instances are converted again and again, e.g. those of a parent for every child model
+        Map<String, CodegenProperty> conversions = convertedProperties.get(p);
+        if (conversions == null) {
+            conversions = new HashMap<String, CodegenProperty>(2);
+            convertedProperties.put(p, conversions);
+        }
+        String key = itemsDepth + ":" + name;
+        CodegenProperty converted = conversions.get(key);
+        if (converted == null) {
+            converted = convertProperty(name, p, itemsDepth);
+            conversions.put(key, converted);
+        }
+        return copyOf(converted);
+    }
 
+    /**
+     * Copy a converted property, including the properties of its items, so that callers can change it
+     *
+     * @param property Codegen property
+     * @return copy of the property
+     */
+    private static CodegenProperty copyOf(CodegenProperty property) {
+        CodegenProperty copy = property.clone();
+        if (property.items != null) {
+            copy.items = copyOf(property.items);
+        }
+        return copy;
+    }
+
+    private CodegenProperty convertProperty(String name, Property p, Integer itemsDepth) {
         CodegenProperty property = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
         property.itemsDepth = itemsDepth;
         property.name = toVarName(name);
@@ -2291,7 +2376,9 @@ public class DefaultCodegen {
                             op.returnBaseType = cm.baseType;
                         }
                     }
-                    op.examples = getExamples(definitions, methodResponse.getExamples(), operation.getProduces(), responseProperty);
+                    if (isTemplateFieldUsed("examples")) {
+                        op.examples = getExamples(definitions, methodResponse.getExamples(), operation.getProduces(), responseProperty);
+                    }
                     op.defaultResponse = toDefaultValue(responseProperty);
                     op.returnType = cm.datatype;
                     op.hasReference = definitions != null && definitions.containsKey(op.returnBaseType);
@@ -2371,7 +2458,7 @@ public class DefaultCodegen {
                 } else if (param instanceof BodyParameter) {
                     bodyParam = p;
                     bodyParams.add(p.copy());
-                    if(definitions != null) {
+                    if(definitions != null && isTemplateFieldUsed("requestBodyExamples")) {
                         op.requestBodyExamples = getExamples(definitions, null, consumes, bodyParam.dataType);
                     }
                 } else if (param instanceof FormParameter) {
@@ -3123,16 +3210,12 @@ public class DefaultCodegen {
             opList = new ArrayList<CodegenOperation>();
             operations.put(tag, opList);
         }
-        // check for operationId uniqueness
-
-        String uniqueName = co.operationId;
-        int counter = 0;
-        for(CodegenOperation op : opList) {
-            if(uniqueName.equals(op.operationId)) {
-                uniqueName = co.operationId + "_" + counter;
-                counter ++;
-            }
+        // check for operationId uniqueness, the registry belongs to the operations of one generation
+        if (operationIdRegistry == null || operationIdGroups != operations) {
+            operationIdRegistry = new OperationIdRegistry();
+            operationIdGroups = operations;
         }
+        String uniqueName = operationIdRegistry.uniqueOperationId(tag, co.operationId, opList);
         if(!co.operationId.equals(uniqueName)) {
             LOGGER.warn("generated unique operationId `" + uniqueName + "`");
         }
@@ -3168,21 +3251,7 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        return NameUtils.underscore(word);
     }
 
     /**
@@ -3193,7 +3262,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return NameUtils.dashize(word);
     }
 
     /**
@@ -3369,7 +3438,7 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String removeNonNameElementToCamelCase(String name) {
-        return removeNonNameElementToCamelCase(name, "[-_:;#]");
+        return removeNonNameElementToCamelCase(name, DEFAULT_NON_NAME_ELEMENT_PATTERN);
     }
 
     /**
@@ -3380,15 +3449,12 @@ public class DefaultCodegen {
      * @return camelized string
      */
     protected String removeNonNameElementToCamelCase(final String name, final String nonNameElementPattern) {
-        String result = StringUtils.join(Lists.transform(Lists.newArrayList(name.split(nonNameElementPattern)), new Function<String, String>() {
-            @Nullable
-            @Override
-            public String apply(String input) {
-                return StringUtils.capitalize(input);
-            }
-        }), "");
-        if (result.length() > 0) {
-            result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        if (!memoizeNames || !DEFAULT_NON_NAME_ELEMENT_PATTERN.equals(nonNameElementPattern)) {
+            return NameUtils.removeNonNameElementToCamelCase(name, nonNameElementPattern);
+        }
+        String result = camelCaseNames.get(name);
+        if (result == null) {
+            result = camelCaseNames.put(name, NameUtils.removeNonNameElementToCamelCase(name, nonNameElementPattern));
         }
         return result;
     }
@@ -3413,66 +3479,7 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
-            }
-        }
-        word = f.toString();
-
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
-        }
-
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
-            } else {
-                word = m.replaceFirst(upperCase);
-            }
-            m = p.matcher(word);
-        }
-
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
-        }
-
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
-
-        return word;
+        return NameUtils.camelize(word, lowercaseFirstLetter);
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3674,51 +3681,21 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (name == null) {
             LOGGER.error("String to be sanitized is null. Default to ERROR_UNKNOWN");
             return "ERROR_UNKNOWN";
         }
 
-        // if the name is just '$', map it to 'value' for the time being.
-        if ("$".equals(name)) {
-            return "value";
+        if (!memoizeNames) {
+            return NameUtils.sanitizeName(name, allowUnicodeIdentifiers);
         }
-
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { // could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        } else {
-            name = name.replaceAll("\\W", "");
+        NameCache cache = allowUnicodeIdentifiers ? sanitizedUnicodeNames : sanitizedNames;
+        String result = cache.get(name);
+        if (result == null) {
+            result = cache.put(name, NameUtils.sanitizeName(name, allowUnicodeIdentifiers));
         }
-
-        return name;
+        return result;
     }
 
     /**
@@ -3951,13 +3928,33 @@ public class DefaultCodegen {
         return booleanValue;
     }
 
+    /**
+     * Whether a field of the template data has to be computed, i.e. it is not declared unused by the generator or
+     * custom templates may read it.
+     *
+     * @param field Name of the field as used in templates
+     * @return {@code true} if the field has to be computed
+     */
+    protected boolean isTemplateFieldUsed(String field) {
+        return !unusedTemplateFields.contains(field) || additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR);
+    }
+
     protected List<Map<String, String>> getExamples(Map<String, Model> definitions, Map<String, Object> examples, List<String> mediaTypes, Object object) {
         if (object instanceof Property) {
             Property responseProperty = (Property) object;
-            return new ExampleGenerator(definitions).generate(examples, mediaTypes, responseProperty);
+            return new ExampleGenerator(definitions, exampleCache(definitions)).generate(examples, mediaTypes, responseProperty);
         }
         // this must be a model name instead
-        return new ExampleGenerator(definitions).generate(examples, mediaTypes, object.toString());
+        return new ExampleGenerator(definitions, exampleCache(definitions)).generate(examples, mediaTypes, object.toString());
+    }
+
+    private ExampleCache exampleCache(Map<String, Model> definitions) {
+        ExampleCache cache = exampleCache;
+        if (cache == null || !cache.isFor(definitions)) {
+            cache = new ExampleCache(definitions);
+            exampleCache = cache;
+        }
+        return cache;
     }
 
     public void writePropertyBack(String propertyKey, boolean value) {
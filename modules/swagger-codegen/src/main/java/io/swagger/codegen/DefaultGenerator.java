@@ -3,13 +3,23 @@ package io.swagger.codegen;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
+import io.swagger.codegen.incremental.IncrementalGeneration;
+import io.swagger.codegen.metrics.GenerationMetrics;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
+import io.swagger.codegen.mustache.TemplateCache;
+import io.swagger.codegen.mustache.TemplateCollector;
+import io.swagger.codegen.mustache.TemplateContext;
+import io.swagger.codegen.output.AbortableOutputStream;
+import io.swagger.codegen.output.DirectoryOutputSink;
+import io.swagger.codegen.output.GenerationPlan;
+import io.swagger.codegen.output.OutputManifest;
 import io.swagger.codegen.utils.ImplementationVersion;
 import io.swagger.models.*;
 import io.swagger.models.auth.OAuth2Definition;
 import io.swagger.models.auth.SecuritySchemeDefinition;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -18,7 +28,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
@@ -34,16 +52,34 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected Boolean isGenerateModelTests = null;
     protected Boolean isGenerateModelDocumentation = null;
     protected Boolean isGenerateSwaggerMetadata = true;
+    protected Boolean isParallelModels = false;
+    protected Boolean isParallelApis = false;
+    protected Boolean isIncremental = false;
+    protected Boolean isDryRun = false;
+    protected boolean isSpecFlattened;
+    protected String timingsReport;
+    protected IncrementalGeneration incrementalGeneration;
+    private Map<CodegenOperation, List<Object>> operationSources = new IdentityHashMap<CodegenOperation, List<Object>>();
+    private Map<String, String> definitionsByModelName;
+    protected int generatorThreads = Runtime.getRuntime().availableProcessors();
     protected String basePath;
     protected String basePathWithoutHost;
     protected String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    protected GenerationOptions generationOptions = GenerationOptions.EMPTY;
+    protected TemplateCache templateCache = new TemplateCache();
+    private Mustache.Compiler templateCompiler;
+    // copy of the additional properties shared by the template data of all files, see withAdditionalProperties
+    private Map<String, Object> sharedAdditionalProperties;
+    protected final AtomicInteger skippedFiles = new AtomicInteger();
+    private final Map<String, Long> templateSizes = new ConcurrentHashMap<String, Long>();
 
     @Override
     public Generator opts(ClientOptInput opts) {
         this.opts = opts;
         this.swagger = opts.getSwagger();
         this.config = opts.getConfig();
+        this.isSpecFlattened = opts.isFlattened();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
@@ -60,9 +96,28 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             this.ignoreProcessor = new CodegenIgnoreProcessor(this.config.getOutputDir());
         }
 
+        if (opts.getOutputSink() != null) {
+            this.outputSink = opts.getOutputSink();
+        }
+        if (opts.getGenerationOptions() != null) {
+            this.generationOptions = opts.getGenerationOptions();
+        }
+        resetTemplates();
+
         return this;
     }
 
+    /**
+     * Drop the template compiler, the compiled templates and the resolved template locations, they belong to
+     * the config of the previous run and would otherwise be used with the new one.
+     */
+    private synchronized void resetTemplates() {
+        templateCompiler = null;
+        templateCache.clear();
+        templateSizes.clear();
+        clearTemplateLocations();
+    }
+
     /**
      * Programmatically disable the output of .swagger-codegen/VERSION, .swagger-codegen-ignore,
      * or other metadata files used by Swagger Codegen.
@@ -84,6 +139,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.generatorPropertyDefaults.put(key, value);
     }
 
+    /**
+     * Look up a generator setting in the options of this run, falling back to the system properties.
+     *
+     * @param key The setting name, e.g. {@link CodegenConstants#MODELS}
+     * @return the setting value, null if not set
+     */
+    protected String getGeneratorProperty(final String key) {
+        return generationOptions.get(key);
+    }
+
     protected Boolean getGeneratorPropertyDefaultSwitch(final String key, final Boolean defaultValue) {
         String result = null;
         if (this.generatorPropertyDefaults.containsKey(key)) {
@@ -131,17 +196,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        if (System.getProperty(CodegenConstants.GENERATE_APIS) != null) {
-            isGenerateApis = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_APIS));
+        if (getGeneratorProperty(CodegenConstants.GENERATE_APIS) != null) {
+            isGenerateApis = Boolean.valueOf(getGeneratorProperty(CodegenConstants.GENERATE_APIS));
         } else {
-            isGenerateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+            isGenerateApis = getGeneratorProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
         }
-        if (System.getProperty(CodegenConstants.GENERATE_MODELS) != null) {
-            isGenerateModels = Boolean.valueOf(System.getProperty(CodegenConstants.GENERATE_MODELS));
+        if (getGeneratorProperty(CodegenConstants.GENERATE_MODELS) != null) {
+            isGenerateModels = Boolean.valueOf(getGeneratorProperty(CodegenConstants.GENERATE_MODELS));
         } else {
-            isGenerateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+            isGenerateModels = getGeneratorProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
         }
-        String supportingFilesProperty = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFilesProperty = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
         if (((supportingFilesProperty != null) && supportingFilesProperty.equalsIgnoreCase("false"))) {
             isGenerateSupportingFiles = false;
         } else {
@@ -164,10 +229,25 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        isGenerateModelTests = System.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        isGenerateModelDocumentation = System.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        isGenerateApiTests = System.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        isGenerateApiDocumentation = System.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        isGenerateModelTests = getGeneratorProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        isGenerateModelDocumentation = getGeneratorProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        isGenerateApiTests = getGeneratorProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        isGenerateApiDocumentation = getGeneratorProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+
+        // rendering of model and api files can optionally be spread over several threads
+        isParallelModels = getGeneratorProperty(CodegenConstants.PARALLEL_MODELS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.PARALLEL_MODELS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.PARALLEL_MODELS, false);
+        isParallelApis = getGeneratorProperty(CodegenConstants.PARALLEL_APIS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.PARALLEL_APIS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.PARALLEL_APIS, false);
+        isIncremental = getGeneratorProperty(CodegenConstants.INCREMENTAL) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.INCREMENTAL)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.INCREMENTAL, false);
+        isDryRun = getGeneratorProperty(CodegenConstants.DRY_RUN) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.DRY_RUN)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.DRY_RUN, false);
+        timingsReport = getGeneratorProperty(CodegenConstants.TIMINGS_REPORT) != null ? getGeneratorProperty(CodegenConstants.TIMINGS_REPORT) : generatorPropertyDefaults.get(CodegenConstants.TIMINGS_REPORT);
+        String parallelThreads = getGeneratorProperty(CodegenConstants.PARALLEL_THREADS) != null ? getGeneratorProperty(CodegenConstants.PARALLEL_THREADS) : generatorPropertyDefaults.get(CodegenConstants.PARALLEL_THREADS);
+        if (StringUtils.isNotBlank(parallelThreads)) {
+            try {
+                generatorThreads = Math.max(1, Integer.parseInt(parallelThreads.trim()));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid value '{}' for {}. Using {} threads.", parallelThreads, CodegenConstants.PARALLEL_THREADS, generatorThreads);
+            }
+        }
 
 
         // Additional properties added for tests to exclude references in project related files
@@ -183,7 +263,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if(!isGenerateApiTests && !isGenerateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (getGeneratorProperty(CodegenConstants.DEBUG_SWAGGER) != null) {
             Json.prettyPrint(swagger);
         }
         config.processOpts();
@@ -269,7 +349,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (outputSink.exists(new File(filename))) {
+                skippedFiles.incrementAndGet();
                 LOGGER.info("File exists. Skipped overwriting " + filename);
                 continue;
             }
@@ -284,7 +365,8 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String suffix = config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
-            if (!config.shouldOverwrite(filename)) {
+            if (!shouldOverwrite(filename)) {
+                skippedFiles.incrementAndGet();
                 LOGGER.info("Skipped overwriting " + filename);
                 continue;
             }
@@ -306,7 +388,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = getGeneratorProperty(CodegenConstants.MODELS);
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -323,59 +405,15 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             modelKeys = updatedKeys;
         }
 
-        // store all processed models
-        Map<String, Object> allProcessedModels = new TreeMap<String, Object>(new Comparator<String>() {
-            @Override
-            public int compare(String o1, String o2) {
-                Model model1 = definitions.get(o1);
-                Model model2 = definitions.get(o2);
-
-                int model1InheritanceDepth = getInheritanceDepth(model1);
-                int model2InheritanceDepth = getInheritanceDepth(model2);
-
-                if (model1InheritanceDepth == model2InheritanceDepth) {
-                    return ObjectUtils.compare(config.toModelName(o1), config.toModelName(o2));
-                } else if (model1InheritanceDepth > model2InheritanceDepth) {
-                    return 1;
-                } else {
-                    return -1;
-                }
-            }
-
-            private int getInheritanceDepth(Model model) {
-                int inheritanceDepth = 0;
-                Model parent = getParent(model);
-
-                while (parent != null) {
-                    inheritanceDepth++;
-                    parent = getParent(parent);
-                }
-
-                return inheritanceDepth;
-            }
-
-            private Model getParent(Model model) {
-                if (model instanceof ComposedModel) {
-                    Model parent = ((ComposedModel) model).getParent();
-                    if (parent == null) {
-                        // check for interfaces
-                        List<RefModel> interfaces = ((ComposedModel) model).getInterfaces();
-                        if (interfaces.size() > 0) {
-                            RefModel interf = interfaces.get(0);
-                            return definitions.get(interf.getSimpleRef());
-                        }
-                    }
-                    if (parent != null) {
-                        return definitions.get(parent.getReference());
-                    }
-                }
-
-                return null;
-            }
-        });
+        // store all processed models, parents before children
+        Map<String, Object> allProcessedModels = new TreeMap<String, Object>(new ModelOrderComparator(definitions, config));
 
         // process models only
         for (String name : modelKeys) {
+            if (incrementalGeneration != null) {
+                // mark the model as part of this run, even if it ends up producing no files
+                incrementalGeneration.recordDefinitionFiles(name, Collections.<File>emptyList());
+            }
             try {
                 //don't generate models that have an import mapping
                 if (!config.getIgnoreImportMapping() && config.importMapping().containsKey(name)) {
@@ -385,11 +423,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 Model model = definitions.get(name);
                 Map<String, Model> modelMap = new HashMap<String, Model>();
                 modelMap.put(name, model);
+                long start = System.nanoTime();
                 Map<String, Object> models = processModels(config, modelMap, definitions);
+                metrics.addPhase(GenerationMetrics.PROCESS_MODELS, start);
                 if (models != null) {
                     models.put("classname", config.toModelName(name));
-                    models.putAll(config.additionalProperties());
+                    models = withAdditionalProperties(models);
                     allProcessedModels.put(name, models);
+                    if (incrementalGeneration != null) {
+                        CodegenModel cm = (CodegenModel) ((Map<String, Object>) ((List<Object>) models.get("models")).get(0)).get("model");
+                        incrementalGeneration.addDefinitionDependencies(name, toDefinitionNames(cm.imports));
+                    }
                 }
             } catch (Exception e) {
                 String message = "Could not process model '" + name + "'" + ". Please make sure that your schema is correct!";
@@ -399,19 +443,22 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
 
         // post process all processed models
+        long start = System.nanoTime();
         allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        metrics.addPhase(GenerationMetrics.POST_PROCESS_MODELS, start);
 
         final boolean skipAlias = config.getSkipAliasGeneration() != null && config.getSkipAliasGeneration();
 
-        // generate files based on processed models
-        for (String modelName : allProcessedModels.keySet()) {
+        // collect the models to render in order; rendering itself may run in parallel
+        List<Callable<List<File>>> renderTasks = new ArrayList<Callable<List<File>>>();
+        for (final String modelName : allProcessedModels.keySet()) {
             // add by willing 生成的模块不包含多余部分。
             if (modelName.contains("2")){
                 continue;
             }
             
             
-            Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
+            final Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
             try {
                 //don't generate models that have an import mapping
@@ -429,42 +476,130 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
                 allModels.add(modelTemplate);
-                for (String templateName : config.modelTemplateFiles().keySet()) {
-                    String filename = config.modelFilename(templateName, modelName);
-                    if (!config.shouldOverwrite(filename)) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-                    File written = processTemplateToFile(models, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
-                }
-                if(isGenerateModelTests) {
-                    generateModelTests(files, models, modelName);
-                }
-                if(isGenerateModelDocumentation) {
-                    // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
-                }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
+            final boolean upToDate = incrementalGeneration != null && incrementalGeneration.isDefinitionUpToDate(modelName);
+            renderTasks.add(new Callable<List<File>>() {
+                @Override
+                public List<File> call() {
+                    try {
+                        if (upToDate) {
+                            LOGGER.info("Model " + modelName + " is up to date");
+                            List<File> previousFiles = incrementalGeneration.getPreviousDefinitionFiles(modelName);
+                            incrementalGeneration.recordDefinitionFiles(modelName, previousFiles);
+                            return previousFiles;
+                        }
+                        long modelStart = System.nanoTime();
+                        List<File> written = generateModel(models, modelName);
+                        metrics.addModel(modelName, modelStart);
+                        if (incrementalGeneration != null) {
+                            incrementalGeneration.recordDefinitionFiles(modelName, written);
+                        }
+                        return written;
+                    } catch (Exception e) {
+                        throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                    }
+                }
+            });
+        }
+        start = System.nanoTime();
+        for (List<File> written : executeOrdered(renderTasks, isParallelModels)) {
+            files.addAll(written);
         }
-        if (System.getProperty("debugModels") != null) {
+        metrics.addPhase(GenerationMetrics.RENDER_MODELS, start);
+        if (getGeneratorProperty(CodegenConstants.DEBUG_MODELS) != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
 
     }
 
+    /**
+     * Render and write the model, model test and model documentation files of a single processed model.
+     *
+     * @param models Processed model bundle, as returned by processModels and postProcessAllModels
+     * @param modelName Name of the model definition
+     * @return the files written for this model
+     * @throws IOException if a file cannot be written
+     */
+    protected List<File> generateModel(Map<String, Object> models, String modelName) throws IOException {
+        List<File> files = new ArrayList<File>();
+        for (String templateName : config.modelTemplateFiles().keySet()) {
+            String filename = config.modelFilename(templateName, modelName);
+            if (!shouldOverwrite(filename)) {
+                skippedFiles.incrementAndGet();
+                LOGGER.info("Skipped overwriting " + filename);
+                continue;
+            }
+            File written = processTemplateToFile(models, templateName, filename);
+            if (written != null) {
+                files.add(written);
+            }
+        }
+        if(isGenerateModelTests) {
+            generateModelTests(files, models, modelName);
+        }
+        if(isGenerateModelDocumentation) {
+            // to generate model documentation files
+            generateModelDocumentation(files, models, modelName);
+        }
+        return files;
+    }
+
+    /**
+     * Run the given tasks and return their results in task order. When {@code parallel} is set the
+     * tasks are executed on a ForkJoinPool bounded by {@link #generatorThreads}, otherwise they run
+     * one after another on the calling thread.
+     *
+     * @param tasks Tasks to run
+     * @param parallel Whether to run the tasks concurrently
+     * @param <T> Result type
+     * @return the task results, in the same order as the tasks
+     */
+    protected <T> List<T> executeOrdered(List<Callable<T>> tasks, boolean parallel) {
+        List<T> results = new ArrayList<T>(tasks.size());
+        if (!parallel || tasks.size() < 2 || generatorThreads < 2) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return results;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(generatorThreads, tasks.size()));
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
     protected void generateApis(List<File> files, List<Object> allOperations, List<Object> allModels) {
         if (!isGenerateApis) {
             return;
         }
+        long start = System.nanoTime();
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        metrics.addPhase(GenerationMetrics.PROCESS_PATHS, start);
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = getGeneratorProperty(CodegenConstants.APIS);
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -477,7 +612,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
-        for (String tag : paths.keySet()) {
+        // config hooks and allOperations are always handled serially, in tag order; only rendering runs in parallel
+        List<Callable<List<File>>> renderTasks = new ArrayList<Callable<List<File>>>();
+        for (final String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
                 Collections.sort(ops, new Comparator<CodegenOperation>() {
@@ -501,16 +638,24 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 
                 
                 
-                Map<String, Object> operation = processOperations(config, tag, ops, allModels);
-
-                operation.put("hostWithoutBasePath", getHostWithoutBasePath());
-                operation.put("basePath", basePath);
-                operation.put("basePathWithoutHost", basePathWithoutHost);
-                operation.put("contextPath", contextPath);
-                operation.put("baseName", tag);
-                operation.put("apiPackage", config.apiPackage());
-                operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                List<Object> apiSources = new ArrayList<Object>();
+                if (incrementalGeneration != null) {
+                    for (CodegenOperation op : ops) {
+                        apiSources.add(operationSources.get(op));
+                    }
+                }
+                long processStart = System.nanoTime();
+                Map<String, Object> processed = processOperations(config, tag, ops, allModels);
+                metrics.addPhase(GenerationMetrics.PROCESS_OPERATIONS, processStart);
+
+                processed.put("hostWithoutBasePath", getHostWithoutBasePath());
+                processed.put("basePath", basePath);
+                processed.put("basePathWithoutHost", basePathWithoutHost);
+                processed.put("contextPath", contextPath);
+                processed.put("baseName", tag);
+                processed.put("apiPackage", config.apiPackage());
+                processed.put("modelPackage", config.modelPackage());
+                final TemplateContext operation = withAdditionalProperties(processed);
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -531,7 +676,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 processMimeTypes(swagger.getConsumes(), operation, "consumes");
                 processMimeTypes(swagger.getProduces(), operation, "produces");
 
-                allOperations.add(new HashMap<String, Object>(operation));
+                allOperations.add(operation.copy());
                 for (int i = 0; i < allOperations.size(); i++) {
                     Map<String, Object> oo = (Map<String, Object>) allOperations.get(i);
                     if (i < (allOperations.size() - 1)) {
@@ -539,70 +684,131 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                        LOGGER.info("Skipped overwriting " + filename);
-                        continue;
-                    }
-
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
+                boolean upToDate = false;
+                if (incrementalGeneration != null) {
+                    Set<String> apiImports = new HashSet<String>();
+                    for (CodegenOperation op : ops) {
+                        apiImports.addAll(op.imports);
                     }
-                    // add by willing 增加代理实现类的标签。
-                    if (templateName.equals("api.mustache")) {
-                        int i = filename.lastIndexOf(".");
-                        File written_interface = processTemplateToFile(operation, "apiDelegate.mustache", filename.substring(0,i)+"Delegate.java");
-                        if (written != null) {
-                            files.add(written_interface);
+                    incrementalGeneration.addApi(tag, apiSources, toDefinitionNames(apiImports));
+                    upToDate = incrementalGeneration.isApiUpToDate(tag);
+                }
+                final boolean isApiUpToDate = upToDate;
+                Callable<List<File>> renderTask = new Callable<List<File>>() {
+                    @Override
+                    public List<File> call() {
+                        try {
+                            if (isApiUpToDate) {
+                                LOGGER.info("Api " + tag + " is up to date");
+                                List<File> previousFiles = incrementalGeneration.getPreviousApiFiles(tag);
+                                incrementalGeneration.recordApiFiles(tag, previousFiles);
+                                return previousFiles;
+                            }
+                            long apiStart = System.nanoTime();
+                            List<File> written = generateApi(operation, tag);
+                            metrics.addApi(tag, apiStart);
+                            if (incrementalGeneration != null) {
+                                incrementalGeneration.recordApiFiles(tag, written);
+                            }
+                            return written;
+                        } catch (Exception e) {
+                            throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                         }
                     }
+                };
+                if (isParallelApis) {
+                    renderTasks.add(renderTask);
+                } else {
+                    long renderStart = System.nanoTime();
+                    files.addAll(renderTask.call());
+                    metrics.addPhase(GenerationMetrics.RENDER_APIS, renderStart);
                 }
+            } catch (Exception e) {
+                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+            }
+        }
+        if (!renderTasks.isEmpty()) {
+            start = System.nanoTime();
+            for (List<File> written : executeOrdered(renderTasks, true)) {
+                files.addAll(written);
+            }
+            metrics.addPhase(GenerationMetrics.RENDER_APIS, start);
+        }
+        if (getGeneratorProperty(CodegenConstants.DEBUG_OPERATIONS) != null) {
+            LOGGER.info("############ Operation info ############");
+            Json.prettyPrint(allOperations);
+        }
 
-                if(isGenerateApiTests) {
-                    // to generate api test files
-                    for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                        String filename = config.apiTestFilename(templateName, tag);
-                        // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
-                            LOGGER.info("File exists. Skipped overwriting " + filename);
-                            continue;
-                        }
+    }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
-                    }
+    /**
+     * Render and write the api, api test and api documentation files of a single tag.
+     *
+     * @param operation Processed operations bundle of the tag, as returned by processOperations
+     * @param tag Sanitized tag name
+     * @return the files written for this tag
+     * @throws IOException if a file cannot be written
+     */
+    protected List<File> generateApi(Map<String, Object> operation, String tag) throws IOException {
+        List<File> files = new ArrayList<File>();
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            String filename = config.apiFilename(templateName, tag);
+            if (!shouldOverwrite(filename) && outputSink.exists(new File(filename))) {
+                skippedFiles.incrementAndGet();
+                LOGGER.info("Skipped overwriting " + filename);
+                continue;
+            }
+
+            File written = processTemplateToFile(operation, templateName, filename);
+            if (written != null) {
+                files.add(written);
+            }
+            // add by willing 增加代理实现类的标签。
+            if (templateName.equals("api.mustache")) {
+                int i = filename.lastIndexOf(".");
+                File written_interface = processTemplateToFile(operation, "apiDelegate.mustache", filename.substring(0,i)+"Delegate.java");
+                if (written != null) {
+                    files.add(written_interface);
                 }
+            }
+        }
 
+        if(isGenerateApiTests) {
+            // to generate api test files
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                String filename = config.apiTestFilename(templateName, tag);
+                // do not overwrite test file that already exists
+                if (outputSink.exists(new File(filename))) {
+                    skippedFiles.incrementAndGet();
+                    LOGGER.info("File exists. Skipped overwriting " + filename);
+                    continue;
+                }
 
-                if(isGenerateApiDocumentation) {
-                    // to generate api documentation files
-                    for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                        String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
-                            LOGGER.info("Skipped overwriting " + filename);
-                            continue;
-                        }
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                }
+            }
+        }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
-                    }
+
+        if(isGenerateApiDocumentation) {
+            // to generate api documentation files
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                String filename = config.apiDocFilename(templateName, tag);
+                if (!shouldOverwrite(filename) && outputSink.exists(new File(filename))) {
+                    skippedFiles.incrementAndGet();
+                    LOGGER.info("Skipped overwriting " + filename);
+                    continue;
                 }
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+                File written = processTemplateToFile(operation, templateName, filename);
+                if (written != null) {
+                    files.add(written);
+                }
             }
         }
-        if (System.getProperty("debugOperations") != null) {
-            LOGGER.info("############ Operation info ############");
-            Json.prettyPrint(allOperations);
-        }
-
+        return files;
     }
 
     protected void generateSupportingFiles(List<File> files, Map<String, Object> bundle) {
@@ -610,7 +816,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
         boolean generateAll = false;
         if (supportingFiles != null && supportingFiles.equalsIgnoreCase("true")) {
             generateAll = true;
@@ -624,12 +830,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 if (StringUtils.isNotEmpty(support.folder)) {
                     outputFolder += File.separator + support.folder;
                 }
-                File of = new File(outputFolder);
-                if (!of.isDirectory()) {
-                    of.mkdirs();
-                }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
-                if (!config.shouldOverwrite(outputFilename)) {
+                if (!shouldOverwrite(outputFilename)) {
+                    skippedFiles.incrementAndGet();
                     LOGGER.info("Skipped overwriting " + outputFilename);
                     continue;
                 }
@@ -648,21 +851,14 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
-                    if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
+                    if (generationPlan != null) {
+                        long size = templateFile.endsWith("mustache") ? estimateSize(templateFile, bundle) : copiedFileSize(templateFile);
+                        generationPlan.add(new File(outputFilename), templateFile.endsWith("mustache") ? support.templateFile : null, size);
+                        files.add(new File(outputFilename));
+                    } else if (templateFile.endsWith("mustache")) {
+                        Template tmpl = getCompiledTemplate(templateFile);
+
+                        writeToFile(outputFilename, support.templateFile, tmpl, bundle);
                         files.add(new File(outputFilename));
                     } else {
                         InputStream in = null;
@@ -676,17 +872,25 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                         }
                         File outputFile = new File(outputFilename);
-                        OutputStream out = new FileOutputStream(outputFile, false);
-                        if (in != null) {
-                            LOGGER.info("writing file " + outputFile);
-                            IOUtils.copy(in, out);
-                            out.close();
-                        } else {
-                            LOGGER.error("can't open " + templateFile + " for input");
+                        AbortableOutputStream out = outputSink.openStream(outputFile);
+                        try {
+                            if (in != null) {
+                                LOGGER.info("writing file " + outputFile);
+                                metrics.addFile(IOUtils.copyLarge(in, out), true);
+                            } else {
+                                LOGGER.error("can't open " + templateFile + " for input");
+                            }
+                        } catch (IOException e) {
+                            out.abort();
+                            throw e;
+                        } finally {
+                            IOUtils.closeQuietly(in);
                         }
+                        out.close();
                         files.add(outputFile);
                     }
                 } else {
+                    skippedFiles.incrementAndGet();
                     LOGGER.info("Skipped generation of " + outputFilename + " due to rule in .swagger-codegen-ignore");
                 }
             } catch (Exception e) {
@@ -699,7 +903,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final String swaggerCodegenIgnore = ".swagger-codegen-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + swaggerCodegenIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (isGenerateSwaggerMetadata && !ignoreFile.exists()) {
+        if (isGenerateSwaggerMetadata && !outputSink.exists(ignoreFile)) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + swaggerCodegenIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -741,10 +945,49 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
     }
 
+    /**
+     * Layers the template data of a file over the additional properties of the generator. Like copying the additional
+     * properties into the data, they replace entries of the same name, but their entries are shared by all files as
+     * long as the generator doesn't change them.
+     *
+     * @param data Template data of a model or api
+     * @return the data with the additional properties
+     */
+    protected TemplateContext withAdditionalProperties(Map<String, Object> data) {
+        Map<String, Object> properties = sharedAdditionalProperties();
+        TemplateContext context = new TemplateContext(properties);
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            if (!properties.containsKey(entry.getKey())) {
+                context.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return context;
+    }
+
+    private Map<String, Object> sharedAdditionalProperties() {
+        Map<String, Object> properties = config.additionalProperties();
+        if (sharedAdditionalProperties == null || !hasSameEntries(sharedAdditionalProperties, properties)) {
+            sharedAdditionalProperties = Collections.unmodifiableMap(new HashMap<String, Object>(properties));
+        }
+        return sharedAdditionalProperties;
+    }
+
+    private static boolean hasSameEntries(Map<String, Object> copy, Map<String, Object> properties) {
+        if (copy.size() != properties.size()) {
+            return false;
+        }
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            Object value = properties.get(entry.getKey());
+            if (value != entry.getValue() || (value == null && !properties.containsKey(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Map<String, Object> buildSupportFileBundle(List<Object> allOperations, List<Object> allModels) {
 
-        Map<String, Object> bundle = new HashMap<String, Object>();
-        bundle.putAll(config.additionalProperties());
+        Map<String, Object> bundle = new TemplateContext(sharedAdditionalProperties());
         bundle.put("apiPackage", config.apiPackage());
 
         Map<String, Object> apis = new HashMap<String, Object>();
@@ -779,7 +1022,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (getGeneratorProperty(CodegenConstants.DEBUG_SUPPORTING_FILES) != null) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -792,12 +1035,44 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger == null || config == null) {
             throw new RuntimeException("missing swagger input or config!");
         }
+        metrics = new GenerationMetrics();
+        long start = System.nanoTime();
         configureGeneratorProperties();
+        metrics.addPhase(GenerationMetrics.CONFIGURE, start);
         configureSwaggerInfo();
 
-        // resolve inline models
-        InlineModelResolver inlineModelResolver = new InlineModelResolver();
-        inlineModelResolver.flatten(swagger);
+        // resolve inline models, unless that was done before, e.g. once for several targets
+        if (!isSpecFlattened) {
+            start = System.nanoTime();
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.flatten(swagger);
+            metrics.addPhase(GenerationMetrics.FLATTEN, start);
+        }
+
+        generationPlan = null;
+        if (isDryRun) {
+            // nothing is rendered, so there is nothing to spread over several threads
+            generationPlan = new GenerationPlan();
+            isParallelModels = isParallelApis = false;
+        }
+
+        // the manifest and the dependency graph rely on the files of the previous run
+        boolean isDirectoryOutput = outputSink instanceof DirectoryOutputSink;
+        if (isGenerateSwaggerMetadata && isDirectoryOutput && !isDryRun) {
+            outputManifest = OutputManifest.load(config.outputFolder());
+        }
+        if (isIncremental && !isDryRun) {
+            if (isGenerateSwaggerMetadata && isDirectoryOutput) {
+                incrementalGeneration = new IncrementalGeneration(config.outputFolder(), getConfigFingerprint());
+                if (swagger.getDefinitions() != null) {
+                    for (Map.Entry<String, Model> definition : swagger.getDefinitions().entrySet()) {
+                        incrementalGeneration.addDefinition(definition.getKey(), definition.getValue());
+                    }
+                }
+            } else {
+                LOGGER.warn("Incremental generation requires the swagger metadata output in a local folder, generating all files");
+            }
+        }
 
         List<File> files = new ArrayList<File>();
         // models
@@ -808,35 +1083,285 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         generateApis(files, allOperations, allModels);
 
         // supporting files
+        start = System.nanoTime();
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
-        generateSupportingFiles(files, bundle);
-        config.processSwagger(swagger);
+        if (incrementalGeneration != null && isGenerateSupportingFiles) {
+            if (incrementalGeneration.isSupportingUpToDate(getSupportingFilesFingerprint())) {
+                LOGGER.info("Supporting files are up to date");
+                files.addAll(incrementalGeneration.getPreviousSupportingFiles());
+            } else {
+                int firstSupportingFile = files.size();
+                generateSupportingFiles(files, bundle);
+                incrementalGeneration.recordSupportingFiles(files.subList(firstSupportingFile, files.size()));
+            }
+        } else {
+            generateSupportingFiles(files, bundle);
+        }
+        metrics.addPhase(GenerationMetrics.SUPPORTING_FILES, start);
+        if (generationPlan != null) {
+            // processSwagger may write files of its own
+            LOGGER.info("Dry run: " + files.size() + " files, about " + generationPlan.getEstimatedBytes() + " bytes");
+        } else {
+            config.processSwagger(swagger);
+        }
+        if (incrementalGeneration != null) {
+            try {
+                incrementalGeneration.save();
+            } catch (IOException e) {
+                LOGGER.warn("Could not write the incremental generation state: " + e.getMessage());
+            }
+        }
+        if (outputManifest != null) {
+            try {
+                outputManifest.save();
+            } catch (IOException e) {
+                LOGGER.warn("Could not write " + outputManifest.getManifestFile() + ": " + e.getMessage());
+            }
+            LOGGER.info("Files: " + outputManifest.getWritten() + " written, " + outputManifest.getUnchanged()
+                    + " unchanged, " + skippedFiles.get() + " skipped");
+        }
+        LOGGER.info("Template cache: " + templateCache.size() + " compiled templates, "
+                + templateCache.getHits() + " hits, " + templateCache.getMisses() + " misses");
+        metrics.finish();
+        if (StringUtils.isNotBlank(timingsReport)) {
+            try {
+                metrics.writeReport(new File(timingsReport));
+                LOGGER.info("Wrote timings report to " + timingsReport);
+            } catch (IOException e) {
+                LOGGER.warn("Could not write timings report " + timingsReport + ": " + e.getMessage());
+            }
+        }
         return files;
     }
 
+    /**
+     * @return the files of the last dry run, null if the last run was not a dry run
+     */
+    public GenerationPlan getGenerationPlan() {
+        return generationPlan;
+    }
+
+    /**
+     * @return timings and counters of the last generation run
+     */
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Fingerprint of everything besides the spec that affects the generated output, used by the
+     * incremental generation to detect that all files have to be regenerated.
+     *
+     * @return the configuration fingerprint
+     */
+    protected String getConfigFingerprint() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(config.getClass().getName()).append('\n');
+        sb.append(ImplementationVersion.read()).append('\n');
+        sb.append(config.getLibrary()).append('\n');
+        sb.append(config.templateDir()).append('\n');
+        sb.append(isGenerateApis).append(isGenerateModels).append(isGenerateApiTests).append(isGenerateApiDocumentation)
+                .append(isGenerateModelTests).append(isGenerateModelDocumentation).append('\n');
+        for (Map.Entry<String, Object> entry : new TreeMap<String, Object>(config.additionalProperties()).entrySet()) {
+            Object value = entry.getValue();
+            if ("generatedDate".equals(entry.getKey()) || "generatedYear".equals(entry.getKey())) {
+                continue;
+            }
+            if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+                sb.append(entry.getKey()).append('=').append(value).append('\n');
+            }
+        }
+        sb.append(new TreeMap<String, String>(config.importMapping())).append('\n');
+        sb.append(new TreeMap<String, String>(config.typeMapping())).append('\n');
+        sb.append(new TreeMap<String, String>(config.instantiationTypes())).append('\n');
+        sb.append(new TreeSet<String>(config.languageSpecificPrimitives())).append('\n');
+
+        // custom templates
+        File templateDir = new File(config.templateDir());
+        if (templateDir.isDirectory()) {
+            for (File template : new TreeSet<File>(FileUtils.listFiles(templateDir, null, true))) {
+                sb.append(template.getPath()).append(' ').append(template.length()).append(' ').append(template.lastModified()).append('\n');
+            }
+        }
+
+        // ignore rules, files they ignored before have to be generated once they are no longer ignored
+        sb.append(readIgnoreRules());
+        return IncrementalGeneration.hash(sb.toString());
+    }
+
+    private String readIgnoreRules() {
+        File ignoreFile = ignoreProcessor.getIgnoreFile();
+        if (ignoreFile != null) {
+            try {
+                return FileUtils.readFileToString(ignoreFile, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read " + ignoreFile, e);
+            }
+        }
+        // the ignore file written with the supporting files has no rules either, the next run must not differ
+        return readResourceContents(File.separator + config.getCommonTemplateDir() + File.separator + ".swagger-codegen-ignore");
+    }
+
+    /**
+     * Fingerprint of the inputs of the supporting file bundle: all definitions and api groups plus the
+     * global parts of the spec.
+     *
+     * @return the supporting files fingerprint
+     */
+    protected String getSupportingFilesFingerprint() {
+        Map<String, Object> global = new TreeMap<String, Object>();
+        global.put("info", swagger.getInfo());
+        global.put("host", swagger.getHost());
+        global.put("basePath", swagger.getBasePath());
+        global.put("schemes", swagger.getSchemes());
+        global.put("consumes", swagger.getConsumes());
+        global.put("produces", swagger.getProduces());
+        global.put("security", swagger.getSecurity());
+        global.put("securityDefinitions", swagger.getSecurityDefinitions());
+        global.put("tags", swagger.getTags());
+        global.put("externalDocs", swagger.getExternalDocs());
+        global.put("vendorExtensions", swagger.getVendorExtensions());
+        global.put(CodegenConstants.SUPPORTING_FILES, getGeneratorProperty(CodegenConstants.SUPPORTING_FILES));
+        return incrementalGeneration.combinedFingerprint(global);
+    }
+
+    /**
+     * Map model class names, e.g. from imports, back to the names of the definitions they were generated from.
+     *
+     * @param modelNames Model class names
+     * @return names of the matching definitions
+     */
+    protected Set<String> toDefinitionNames(Collection<String> modelNames) {
+        if (definitionsByModelName == null) {
+            definitionsByModelName = new HashMap<String, String>();
+            if (swagger.getDefinitions() != null) {
+                for (String name : swagger.getDefinitions().keySet()) {
+                    definitionsByModelName.put(config.toModelName(name), name);
+                }
+            }
+        }
+        Set<String> names = new TreeSet<String>();
+        for (String modelName : modelNames) {
+            String name = definitionsByModelName.get(modelName);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Check the overwrite setting of the config against the output sink, so that it also applies to
+     * files generated into memory or an archive.
+     *
+     * @param filename Output file name
+     * @return false if an existing file must not be overwritten
+     */
+    protected boolean shouldOverwrite(String filename) {
+        if (outputSink instanceof DirectoryOutputSink) {
+            return config.shouldOverwrite(filename);
+        }
+        return !(config.isSkipOverwrite() && outputSink.exists(new File(filename)));
+    }
+
     protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
             String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
+            if (generationPlan != null) {
+                generationPlan.add(new File(adjustedOutputFilename), templateName, estimateSize(templateFile, templateData));
+                return new File(adjustedOutputFilename);
+            }
+            Template tmpl = getCompiledTemplate(templateFile);
+
+            writeToFile(adjustedOutputFilename, templateName, tmpl, templateData);
+            return new File(adjustedOutputFilename);
+        }
+
+        skippedFiles.incrementAndGet();
+        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
+        return null;
+    }
+
+    /**
+     * Estimate the size of a rendered file for a dry run: the template itself, plus half of it again
+     * for every model property, operation and api in the template data, as these are what the
+     * template sections iterate over.
+     *
+     * @param templateFile Full template file path
+     * @param templateData Template data
+     * @return the estimated size in bytes
+     */
+    protected long estimateSize(String templateFile, Map<String, Object> templateData) {
+        Long templateSize = templateSizes.get(templateFile);
+        if (templateSize == null) {
+            templateSize = (long) readTemplate(templateFile).getBytes(StandardCharsets.UTF_8).length;
+            templateSizes.put(templateFile, templateSize);
+        }
+        int items = 0;
+        Object models = templateData.get("models");
+        if (models instanceof List) {
+            for (Object entry : (List<Object>) models) {
+                Object model = entry instanceof Map ? ((Map<String, Object>) entry).get("model") : null;
+                items += model instanceof CodegenModel ? Math.max(1, ((CodegenModel) model).vars.size()) : 1;
+            }
+        }
+        Object operations = templateData.get("operations");
+        if (operations instanceof Map && ((Map<String, Object>) operations).get("operation") instanceof List) {
+            items += ((List<Object>) ((Map<String, Object>) operations).get("operation")).size();
+        }
+        Object apiInfo = templateData.get("apiInfo");
+        if (apiInfo instanceof Map && ((Map<String, Object>) apiInfo).get("apis") instanceof List) {
+            items += ((List<Object>) ((Map<String, Object>) apiInfo).get("apis")).size();
+        }
+        return templateSize + templateSize * items / 2;
+    }
+
+    private long copiedFileSize(String file) throws IOException {
+        File local = new File(file);
+        if (local.exists()) {
+            return local.length();
+        }
+        URL resource = this.getClass().getClassLoader().getResource(getCPResourcePath(file));
+        return resource == null ? 0 : resource.openConnection().getContentLengthLong();
+    }
+
+    /**
+     * Get the compiled template for the given (resolved) template file. Templates are compiled once
+     * per generation run with the compiler of the current config and served from {@link #templateCache} afterwards,
+     * both are reset by {@link #opts(ClientOptInput)}.
+     *
+     * @param templateFile Full template file path, as returned by {@link #getFullTemplateFile(CodegenConfig, String)}
+     * @return the compiled template
+     */
+    protected Template getCompiledTemplate(String templateFile) {
+        return templateCache.get(getTemplateCompiler(), templateFile, new TemplateCache.TemplateSource() {
+            @Override
+            public String read(String file) {
+                return readTemplate(file);
+            }
+        });
+    }
+
+    protected synchronized Mustache.Compiler getTemplateCompiler() {
+        if (templateCompiler == null) {
             Mustache.Compiler compiler = Mustache.compiler();
             compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
+            templateCompiler = compiler
                     .withLoader(new Mustache.TemplateLoader() {
                         @Override
                         public Reader getTemplate(String name) {
                             return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
                         }
                     })
-                    .defaultValue("")
-                    .compile(template);
-
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
-            return new File(adjustedOutputFilename);
+                    .withCollector(new TemplateCollector(compiler.collector))
+                    .defaultValue("");
         }
+        return templateCompiler;
+    }
 
-        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
-        return null;
+    public TemplateCache getTemplateCache() {
+        return templateCache;
     }
 
     protected static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
@@ -881,7 +1406,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (getGeneratorProperty(CodegenConstants.DEBUG_OPERATIONS) != null) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
         List<Tag> tags = new ArrayList<Tag>();
@@ -941,6 +1466,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             try {
                 CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, swagger.getDefinitions(), swagger);
                 codegenOperation.tags = new ArrayList<Tag>(tags);
+                if (incrementalGeneration != null) {
+                    operationSources.put(codegenOperation, Arrays.<Object>asList(httpMethod, resourcePath, operation));
+                }
                 config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
 
                 List<Map<String, List<String>>> securities = operation.getSecurity();
@@ -1125,4 +1653,94 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         config.postProcessModels(objs);
         return objs;
     }
+
+    /**
+     * Orders definition names by inheritance depth, parents first, then by model name. The depth and
+     * model name of each definition are computed once, in one pass over the definitions. A cycle in the
+     * allOf parents ends the chain instead of looping forever.
+     */
+    protected static class ModelOrderComparator implements Comparator<String> {
+        private final Map<String, Model> definitions;
+        private final CodegenConfig config;
+        private final Map<String, Integer> depths = new HashMap<String, Integer>();
+        private final Map<String, String> modelNames = new HashMap<String, String>();
+
+        public ModelOrderComparator(Map<String, Model> definitions, CodegenConfig config) {
+            this.definitions = definitions;
+            this.config = config;
+            for (String name : definitions.keySet()) {
+                getInheritanceDepth(name);
+                modelNames.put(name, config.toModelName(name));
+            }
+        }
+
+        @Override
+        public int compare(String o1, String o2) {
+            int model1InheritanceDepth = getInheritanceDepth(o1);
+            int model2InheritanceDepth = getInheritanceDepth(o2);
+
+            if (model1InheritanceDepth == model2InheritanceDepth) {
+                return ObjectUtils.compare(getModelName(o1), getModelName(o2));
+            } else if (model1InheritanceDepth > model2InheritanceDepth) {
+                return 1;
+            } else {
+                return -1;
+            }
+        }
+
+        public int getInheritanceDepth(String name) {
+            Integer depth = depths.get(name);
+            if (depth != null) {
+                return depth;
+            }
+            // walk up to a definition without parent, a definition of known depth or a cycle
+            List<String> chain = new ArrayList<String>();
+            Set<String> seen = new HashSet<String>();
+            int base = 0;
+            String current = name;
+            while (current != null && seen.add(current)) {
+                chain.add(current);
+                String parent = getParentName(definitions.get(current));
+                if (parent == null || definitions.get(parent) == null) {
+                    break;
+                }
+                Integer known = depths.get(parent);
+                if (known != null) {
+                    base = known + 1;
+                    break;
+                }
+                current = parent;
+            }
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                depths.put(chain.get(i), base++);
+            }
+            return depths.get(name);
+        }
+
+        private String getModelName(String name) {
+            String modelName = modelNames.get(name);
+            if (modelName == null) {
+                modelName = config.toModelName(name);
+                modelNames.put(name, modelName);
+            }
+            return modelName;
+        }
+
+        private static String getParentName(Model model) {
+            if (model instanceof ComposedModel) {
+                Model parent = ((ComposedModel) model).getParent();
+                if (parent == null) {
+                    // check for interfaces
+                    List<RefModel> interfaces = ((ComposedModel) model).getInterfaces();
+                    if (interfaces != null && interfaces.size() > 0) {
+                        return interfaces.get(0).getSimpleRef();
+                    }
+                }
+                if (parent != null) {
+                    return parent.getReference();
+                }
+            }
+            return null;
+        }
+    }
 }
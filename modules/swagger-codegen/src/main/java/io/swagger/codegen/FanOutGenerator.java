@@ -0,0 +1,123 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates several targets, e.g. clients in different languages, from one spec. The spec is parsed and
+ * its inline models are resolved once, then every target runs on its own copy of the resolved spec with
+ * its own generator, several targets at a time.
+ *
+ * The generator settings of a target travel with its {@link GenerationOptions} rather than as JVM system
+ * properties, so targets with different settings do not interfere. System properties that are set on the
+ * JVM apply to all targets.
+ */
+public class FanOutGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FanOutGenerator.class);
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * @param threads Maximum number of targets generated at the same time
+     * @return this generator
+     */
+    public FanOutGenerator threads(int threads) {
+        this.threads = Math.max(1, threads);
+        return this;
+    }
+
+    /**
+     * Parse the spec of the first target and generate all targets from it.
+     *
+     * @param targets Configurations of the targets, their input specs are ignored
+     * @return the generated files, one list per target in target order
+     */
+    public List<List<File>> generate(List<CodegenConfigurator> targets) {
+        if (targets.isEmpty()) {
+            return new ArrayList<List<File>>();
+        }
+        return generate(targets.get(0).readSwagger(), targets);
+    }
+
+    /**
+     * Generate all targets from the given spec.
+     *
+     * @param swagger Parsed spec, its inline models are resolved in place
+     * @param targets Configurations of the targets, their input specs are ignored
+     * @return the generated files, one list per target in target order
+     */
+    public List<List<File>> generate(Swagger swagger, List<CodegenConfigurator> targets) {
+        long start = System.currentTimeMillis();
+        new InlineModelResolver().flatten(swagger);
+        // generators modify the spec, every target gets its own copy
+        final String resolved;
+        try {
+            resolved = Json.mapper().writeValueAsString(swagger);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not copy the spec", e);
+        }
+
+        List<List<File>> results = new ArrayList<List<File>>(targets.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, targets.size()));
+        try {
+            List<Future<List<File>>> futures = new ArrayList<Future<List<File>>>(targets.size());
+            for (final CodegenConfigurator target : targets) {
+                futures.add(executor.submit(new Callable<List<File>>() {
+                    @Override
+                    public List<File> call() {
+                        return generate(target, copy(resolved));
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    String message = "Could not generate " + targets.get(i).getLang() + " into " + targets.get(i).getOutputDir();
+                    throw new RuntimeException(message, e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info("Generated " + targets.size() + " targets in " + (System.currentTimeMillis() - start) + " ms");
+        return results;
+    }
+
+    /**
+     * Generate a single target.
+     *
+     * @param target Configuration of the target
+     * @param swagger Copy of the resolved spec for this target
+     * @return the generated files
+     */
+    protected List<File> generate(CodegenConfigurator target, Swagger swagger) {
+        return new DefaultGenerator().opts(target.toClientOptInput(swagger).flattened(true)).generate();
+    }
+
+    private static Swagger copy(String resolved) {
+        try {
+            // the spec is resolved already, reading it back with the mapper is enough
+            return Json.mapper().readValue(resolved, Swagger.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not copy the spec", e);
+        }
+    }
+}
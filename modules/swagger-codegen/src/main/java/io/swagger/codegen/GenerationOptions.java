@@ -0,0 +1,135 @@
+package io.swagger.codegen;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generator settings of a single generation run: selective generation ({@link CodegenConstants#MODELS},
+ * {@link CodegenConstants#APIS}, ...), parallel rendering, debug output and the like. A setting that is not
+ * part of the options falls back to the system property of the same name, so -D options keep working.
+ *
+ * The options are immutable, so generations running at the same time in one JVM each keep their own settings.
+ */
+public final class GenerationOptions {
+
+    /**
+     * Options without any settings, everything comes from the system properties.
+     */
+    public static final GenerationOptions EMPTY = new GenerationOptions(Collections.<String, String>emptyMap());
+
+    /**
+     * Names of the settings read by the generator. These are carried by the options and not set as system
+     * properties by {@link io.swagger.codegen.config.CodegenConfigurator}.
+     */
+    public static final Set<String> GENERATOR_PROPERTIES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            CodegenConstants.APIS, CodegenConstants.MODELS, CodegenConstants.SUPPORTING_FILES,
+            CodegenConstants.GENERATE_APIS, CodegenConstants.GENERATE_MODELS,
+            CodegenConstants.MODEL_TESTS, CodegenConstants.MODEL_DOCS, CodegenConstants.API_TESTS, CodegenConstants.API_DOCS,
+            CodegenConstants.PARALLEL_MODELS, CodegenConstants.PARALLEL_APIS, CodegenConstants.PARALLEL_THREADS,
+            CodegenConstants.INCREMENTAL, CodegenConstants.TIMINGS_REPORT, CodegenConstants.DRY_RUN,
+            CodegenConstants.DEBUG_SWAGGER, CodegenConstants.DEBUG_MODELS, CodegenConstants.DEBUG_OPERATIONS,
+            CodegenConstants.DEBUG_SUPPORTING_FILES)));
+
+    private final Map<String, String> properties;
+
+    private GenerationOptions(Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param name Setting name, e.g. {@link CodegenConstants#MODELS}
+     * @return the value of the setting, or of the system property of the same name if the setting is not part
+     * of the options, null if neither is set or the setting is unset in the options
+     */
+    public String get(String name) {
+        if (properties.containsKey(name)) {
+            return properties.get(name);
+        }
+        return System.getProperty(name);
+    }
+
+    /**
+     * @param name Setting name
+     * @return true if the setting or the system property of the same name is set, to any value
+     */
+    public boolean isSet(String name) {
+        return get(name) != null;
+    }
+
+    /**
+     * @return the settings of these options, without the system properties, with null values for unset settings
+     */
+    public Map<String, String> asMap() {
+        return properties;
+    }
+
+    /**
+     * @return a builder initialized with the settings of these options
+     */
+    public Builder toBuilder() {
+        return new Builder().properties(properties);
+    }
+
+    @Override
+    public String toString() {
+        return properties.toString();
+    }
+
+    public static final class Builder {
+        private final Map<String, String> properties = new LinkedHashMap<String, String>();
+
+        private Builder() {
+        }
+
+        /**
+         * @param name Setting name
+         * @param value Setting value, the empty string for switches without a value
+         * @return this builder
+         */
+        public Builder property(String name, String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("No value for " + name);
+            }
+            properties.put(name, value);
+            return this;
+        }
+
+        /**
+         * Keep a setting unset, even if the system property of the same name is set.
+         *
+         * @param name Setting name
+         * @return this builder
+         */
+        public Builder unset(String name) {
+            properties.put(name, null);
+            return this;
+        }
+
+        /**
+         * @param properties Settings by name, null values unset the setting, see {@link #unset(String)}
+         * @return this builder
+         */
+        public Builder properties(Map<String, String> properties) {
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                if (entry.getValue() == null) {
+                    unset(entry.getKey());
+                } else {
+                    property(entry.getKey(), entry.getValue());
+                }
+            }
+            return this;
+        }
+
+        public GenerationOptions build() {
+            return new GenerationOptions(Collections.unmodifiableMap(new LinkedHashMap<String, String>(properties)));
+        }
+    }
+}
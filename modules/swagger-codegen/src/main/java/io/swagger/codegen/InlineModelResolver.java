@@ -13,17 +13,24 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class InlineModelResolver {
     private Swagger swagger;
     private boolean skipMatches;
     static Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
+    private static final Pattern INVALID_NAME_CHARACTERS = Pattern.compile("[^a-z_\\.A-Z0-9 ]");
+
     Map<String, Model> addedModels = new HashMap<String, Model>();
-    Map<String, String> generatedSignature = new HashMap<String, String>();
+    // generated models by structural fingerprint, see fingerprint(Model)
+    Map<Integer, List<GeneratedModel>> generatedModels = new HashMap<Integer, List<GeneratedModel>>();
+    // per name, the suffix uniqueName returned last, all lower suffixes are taken
+    Map<String, Integer> nameCounters = new HashMap<String, Integer>();
 
     public void flatten(Swagger swagger) {
         this.swagger = swagger;
+        this.nameCounters.clear();
 
         if (swagger.getDefinitions() == null) {
             swagger.setDefinitions(new HashMap<String, Model>());
@@ -243,38 +250,122 @@ public class InlineModelResolver {
         if (this.skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        List<GeneratedModel> candidates = generatedModels.get(fingerprint(model));
+        if (candidates == null) {
+            return null;
         }
-        return null;
+        GeneratedModel same = findGenerated(candidates, Json.pretty(model));
+        return same == null ? null : same.name;
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        int fingerprint = fingerprint(model);
+        List<GeneratedModel> candidates = generatedModels.get(fingerprint);
+        if (candidates == null) {
+            candidates = new ArrayList<GeneratedModel>(1);
+            generatedModels.put(fingerprint, candidates);
+        } else {
+            GeneratedModel same = findGenerated(candidates, Json.pretty(model));
+            if (same != null) {
+                same.name = name;
+                return;
+            }
+        }
+        candidates.add(new GeneratedModel(name, model, fingerprint));
     }
 
+    /**
+     * Find the generated model with the given json among models of the same fingerprint. Models are only serialized
+     * here, so a model without another one of the same fingerprint is never serialized at all.
+     */
+    private static GeneratedModel findGenerated(List<GeneratedModel> candidates, String json) {
+        for (GeneratedModel candidate : candidates) {
+            if (json.equals(candidate.getJson())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
     public String uniqueName(String key) {
-        int count = 0;
-        boolean done = false;
-        key = key.replaceAll("[^a-z_\\.A-Z0-9 ]", ""); // FIXME: a parameter
-                                                       // should not be
-                                                       // assigned. Also declare
-                                                       // the methods parameters
-                                                       // as 'final'.
-        while (!done) {
+        key = INVALID_NAME_CHARACTERS.matcher(key).replaceAll(""); // FIXME: a parameter
+                                                                   // should not be
+                                                                   // assigned. Also declare
+                                                                   // the methods parameters
+                                                                   // as 'final'.
+        if (swagger.getDefinitions() == null) {
+            return key;
+        }
+        Integer last = nameCounters.get(key);
+        int count = last == null ? 0 : last;
+        while (true) {
             String name = key;
             if (count > 0) {
                 name = key + "_" + count;
             }
-            if (swagger.getDefinitions() == null) {
-                return name;
-            } else if (!swagger.getDefinitions().containsKey(name)) {
+            if (!swagger.getDefinitions().containsKey(name)) {
+                nameCounters.put(key, count);
                 return name;
             }
             count += 1;
         }
-        return key;
+    }
+
+    /**
+     * Structural hash of a model over its type, texts and properties. Models with the same json always have the
+     * same fingerprint, so only models with the same fingerprint need to be compared by their json.
+     *
+     * @param model Model
+     * @return the fingerprint of the model
+     */
+    private static int fingerprint(Model model) {
+        int hash = hash(0, model.getDescription());
+        hash = hash(hash, model.getTitle());
+        if (model instanceof ModelImpl) {
+            hash = hash(hash, ((ModelImpl) model).getType());
+            hash = hash(hash, ((ModelImpl) model).getFormat());
+        } else if (model instanceof ArrayModel) {
+            hash = 31 * hash + fingerprint(((ArrayModel) model).getItems());
+        }
+        return 31 * hash + fingerprint(model.getProperties());
+    }
+
+    private static int fingerprint(Map<String, Property> properties) {
+        if (properties == null) {
+            return 0;
+        }
+        int hash = 1;
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            if (entry.getValue() != null) {
+                hash = hash(hash, entry.getKey());
+                hash = 31 * hash + fingerprint(entry.getValue());
+            }
+        }
+        return hash;
+    }
+
+    private static int fingerprint(Property property) {
+        if (property == null) {
+            return 0;
+        }
+        if (property instanceof RefProperty) {
+            return hash(7, ((RefProperty) property).get$ref());
+        }
+        int hash = hash(1, property.getType());
+        hash = hash(hash, property.getFormat());
+        hash = hash(hash, property.getDescription());
+        hash = hash(hash, property.getTitle());
+        if (property instanceof ObjectProperty) {
+            hash = 31 * hash + fingerprint(((ObjectProperty) property).getProperties());
+        } else if (property instanceof ArrayProperty) {
+            hash = 31 * hash + fingerprint(((ArrayProperty) property).getItems());
+        } else if (property instanceof MapProperty) {
+            hash = 31 * hash + fingerprint(((MapProperty) property).getAdditionalProperties());
+        }
+        return hash;
+    }
+
+    private static int hash(int hash, String value) {
+        return 31 * hash + (value == null ? 0 : value.hashCode());
     }
 
     public void flattenProperties(Map<String, Property> properties, String path) {
@@ -525,4 +616,36 @@ public class InlineModelResolver {
         this.skipMatches = skipMatches;
     }
 
+    static class GeneratedModel {
+        private String name;
+        private final Model model;
+        // fingerprint of the model when it was added
+        private final int fingerprint;
+        private String json;
+
+        GeneratedModel(String name, Model model, int fingerprint) {
+            this.name = name;
+            this.model = model;
+            this.fingerprint = fingerprint;
+        }
+
+        /**
+         * @return the model serialized as json on first use, null if its structure changed since it was added, e.g.
+         * because its properties were flattened, and it no longer belongs to the fingerprint it was added with
+         */
+        String getJson() {
+            if (fingerprint(model) != fingerprint) {
+                return null;
+            }
+            if (json == null) {
+                json = Json.pretty(model);
+            }
+            return json;
+        }
+
+        boolean isSerialized() {
+            return json != null;
+        }
+    }
+
 }
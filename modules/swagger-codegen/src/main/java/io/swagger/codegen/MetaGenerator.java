@@ -163,7 +163,7 @@ public class MetaGenerator extends AbstractGenerator {
                             .defaultValue("")
                             .compile(template);
 
-                    writeToFile(outputFilename, tmpl.execute(data));
+                    writeToFile(outputFilename, tmpl, data);
                     files.add(new File(outputFilename));
                 } else {
                     String template = readTemplate(templateDir + File.separator + support.templateFile);
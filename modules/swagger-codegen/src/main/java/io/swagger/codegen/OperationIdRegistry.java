@@ -0,0 +1,71 @@
+package io.swagger.codegen;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operation ids taken in each api group (tag) of one generation, so a new operation gets a unique id without
+ * scanning the operations already in its group.
+ *
+ * A taken id gets the first free suffix of id_0, id_1, ..., which is the id the previous scan over the group
+ * produced whenever that id was unique. The registry follows the operation lists it is given: when a list has
+ * changed size since the last call, e.g. because a language added operations itself, the ids of the group are
+ * read again from the list.
+ */
+public class OperationIdRegistry {
+    private final Map<String, Group> groups = new HashMap<String, Group>();
+
+    /**
+     * Reserve a unique operation id in a group. The caller is expected to add the operation to the list
+     * afterwards.
+     *
+     * @param tag Group of the operation
+     * @param operationId Operation id as given by the spec or derived from the path
+     * @param opList Operations already in the group
+     * @return the operation id if it is not taken in the group yet, else the id with the first free suffix
+     */
+    public String uniqueOperationId(String tag, String operationId, List<CodegenOperation> opList) {
+        Group group = groups.get(tag);
+        if (group == null) {
+            group = new Group();
+            groups.put(tag, group);
+        }
+        if (group.size != opList.size()) {
+            group.reload(opList);
+        }
+
+        String uniqueName = operationId;
+        if (group.ids.contains(operationId)) {
+            Integer next = group.nextSuffix.get(operationId);
+            int counter = next == null ? 0 : next;
+            uniqueName = operationId + "_" + counter;
+            while (group.ids.contains(uniqueName)) {
+                counter++;
+                uniqueName = operationId + "_" + counter;
+            }
+            group.nextSuffix.put(operationId, counter + 1);
+        }
+        group.ids.add(uniqueName);
+        group.size = opList.size() + 1;
+        return uniqueName;
+    }
+
+    private static class Group {
+        private final Set<String> ids = new HashSet<String>();
+        // first suffix that may still be free, per operation id
+        private final Map<String, Integer> nextSuffix = new HashMap<String, Integer>();
+        private int size;
+
+        private void reload(List<CodegenOperation> opList) {
+            ids.clear();
+            nextSuffix.clear();
+            for (CodegenOperation op : opList) {
+                ids.add(op.operationId);
+            }
+            size = opList.size();
+        }
+    }
+}
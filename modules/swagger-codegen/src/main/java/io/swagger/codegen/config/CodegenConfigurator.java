@@ -8,6 +8,8 @@ import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationOptions;
+import io.swagger.codegen.InlineModelResolver;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.models.Model;
 import io.swagger.models.Swagger;
@@ -59,6 +61,14 @@ public class CodegenConfigurator implements Serializable {
     private String artifactVersion;
     private String library;
     private String ignoreFileOverride;
+    private boolean parallelModels;
+    private boolean parallelApis;
+    private Integer parallelThreads;
+    private boolean incremental;
+    private String timingsReport;
+    private boolean dryRun;
+    private boolean specCache;
+    private String specCacheDir;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
     private Map<String, String> typeMappings = new HashMap<String, String>();
@@ -385,14 +395,194 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public boolean isParallelModels() {
+        return parallelModels;
+    }
+
+    public CodegenConfigurator setParallelModels(boolean parallelModels) {
+        this.parallelModels = parallelModels;
+        return this;
+    }
+
+    public boolean isParallelApis() {
+        return parallelApis;
+    }
+
+    public CodegenConfigurator setParallelApis(boolean parallelApis) {
+        this.parallelApis = parallelApis;
+        return this;
+    }
+
+    public Integer getParallelThreads() {
+        return parallelThreads;
+    }
+
+    public CodegenConfigurator setParallelThreads(Integer parallelThreads) {
+        this.parallelThreads = parallelThreads;
+        return this;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    public String getTimingsReport() {
+        return timingsReport;
+    }
+
+    public CodegenConfigurator setTimingsReport(String timingsReport) {
+        this.timingsReport = timingsReport;
+        return this;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public CodegenConfigurator setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+        return this;
+    }
+
+    public boolean isSpecCache() {
+        return specCache;
+    }
+
+    public CodegenConfigurator setSpecCache(boolean specCache) {
+        this.specCache = specCache;
+        return this;
+    }
+
+    public String getSpecCacheDir() {
+        return specCacheDir;
+    }
+
+    public CodegenConfigurator setSpecCacheDir(String specCacheDir) {
+        this.specCacheDir = specCacheDir;
+        return this;
+    }
+
     public ClientOptInput toClientOptInput() {
 
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
         setVerboseFlags();
+        addGeneratorSystemProperties();
         setSystemProperties();
 
+        ClientOptInput input = createClientOptInput();
+        SpecCache cache = getSpecCacheInstance();
+        String cacheKey = cache == null ? null : cache.key(inputSpec, auth);
+        input.swagger(readSwagger(cache, cacheKey));
+        // a spec going through the cache is flattened already
+        input.flattened(cacheKey != null);
+        return input;
+    }
+
+    /**
+     * Like {@link #toClientOptInput()}, but for an already parsed spec and without setting any system
+     * properties of the JVM, so that several configurations can be generated concurrently in one JVM.
+     * The generator settings are passed with the {@link GenerationOptions} of the input.
+     *
+     * @param swagger Parsed spec, must not be shared with other generation runs
+     * @return the generator input
+     */
+    public ClientOptInput toClientOptInput(Swagger swagger) {
+
+        Validate.notEmpty(lang, "language must be specified");
+
+        setVerboseFlags();
+        addGeneratorSystemProperties();
+
+        ClientOptInput input = createClientOptInput();
+        input.swagger(swagger);
+        return input;
+    }
+
+    /**
+     * Parse the input spec. With the spec cache enabled, the spec is also flattened and taken from or stored
+     * in the {@link SpecCache}.
+     *
+     * @return the parsed spec
+     */
+    public Swagger readSwagger() {
+
+        Validate.notEmpty(inputSpec, "input spec must be specified");
+
+        SpecCache cache = getSpecCacheInstance();
+        return readSwagger(cache, cache == null ? null : cache.key(inputSpec, auth));
+    }
+
+    private SpecCache getSpecCacheInstance() {
+        if (!specCache) {
+            return null;
+        }
+        return new SpecCache(isNotEmpty(specCacheDir) ? new File(specCacheDir) : SpecCache.defaultDirectory());
+    }
+
+    private Swagger readSwagger(SpecCache cache, String cacheKey) {
+        if (cacheKey != null) {
+            Swagger cached = cache.load(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
+
+        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+        
+        Map<String, Model> definitions = swagger.getDefinitions();
+        Map<String, Model> newDefinitions =new HashMap<>();
+
+        Set<String> strings = definitions.keySet();
+        for (String string : strings) {
+            if (string.endsWith("2")) {
+                continue;
+            }
+            newDefinitions.put(string,definitions.get(string));
+        }
+
+
+
+        swagger.setDefinitions(newDefinitions);
+
+        if (cacheKey != null) {
+            // stored flattened, so generating from the cache doesn't flatten it again, see ClientOptInput#isFlattened
+            new InlineModelResolver().flatten(swagger);
+            cache.store(cacheKey, swagger);
+        }
+        return swagger;
+    }
+
+    private void addGeneratorSystemProperties() {
+        if (parallelModels) {
+            systemProperties.put(CodegenConstants.PARALLEL_MODELS, Boolean.TRUE.toString());
+        }
+        if (parallelApis) {
+            systemProperties.put(CodegenConstants.PARALLEL_APIS, Boolean.TRUE.toString());
+        }
+        if (parallelThreads != null) {
+            systemProperties.put(CodegenConstants.PARALLEL_THREADS, parallelThreads.toString());
+        }
+        if (incremental) {
+            systemProperties.put(CodegenConstants.INCREMENTAL, Boolean.TRUE.toString());
+        }
+        if (isNotEmpty(timingsReport)) {
+            systemProperties.put(CodegenConstants.TIMINGS_REPORT, timingsReport);
+        }
+        if (dryRun) {
+            systemProperties.put(CodegenConstants.DRY_RUN, Boolean.TRUE.toString());
+        }
+    }
+
+    private ClientOptInput createClientOptInput() {
         CodegenConfig config = CodegenConfigLoader.forName(lang);
 
         config.setInputSpec(inputSpec);
@@ -430,32 +620,10 @@ public class CodegenConfigurator implements Serializable {
 
         config.additionalProperties().putAll(additionalProperties);
 
-        ClientOptInput input = new ClientOptInput()
-                .config(config);
-
-        final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
-
-        Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
-        
-        Map<String, Model> definitions = swagger.getDefinitions();
-        Map<String, Model> newDefinitions =new HashMap<>();
-
-        Set<String> strings = definitions.keySet();
-        for (String string : strings) {
-            if (string.endsWith("2")) {
-                continue;
-            }
-            newDefinitions.put(string,definitions.get(string));
-        }
-
-
-
-        swagger.setDefinitions(newDefinitions);
-
-        input.opts(new ClientOpts())
-                .swagger(swagger);
-
-        return input;
+        return new ClientOptInput()
+                .config(config)
+                .opts(new ClientOpts())
+                .generationOptions(GenerationOptions.builder().properties(systemProperties).build());
     }
 
     @JsonAnySetter
@@ -491,15 +659,18 @@ public class CodegenConfigurator implements Serializable {
                 "\n - [debugOperations] prints operations passed to the template engine" +
                 "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+        systemProperties.put(CodegenConstants.DEBUG_SWAGGER, "");
+        systemProperties.put(CodegenConstants.DEBUG_MODELS, "");
+        systemProperties.put(CodegenConstants.DEBUG_OPERATIONS, "");
+        systemProperties.put(CodegenConstants.DEBUG_SUPPORTING_FILES, "");
     }
 
     private void setSystemProperties() {
         for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            // generator settings travel with the generator input, see GenerationOptions
+            if (!GenerationOptions.GENERATOR_PROPERTIES.contains(entry.getKey()) && entry.getValue() != null) {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
         }
     }
 
@@ -0,0 +1,190 @@
+package io.swagger.codegen.config;
+
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk cache of parsed and flattened specs, so that generating the same spec again, e.g. into several targets
+ * or on every build, does not parse and resolve it again.
+ *
+ * An entry is keyed by a hash over the bytes of the spec and of every local file it references, transitively,
+ * the authorization, the parser options and the codegen version. Only local specs are cached: a spec that is a
+ * URL or references one is always parsed. Entries are stored as gzipped json, one file per key.
+ */
+public class SpecCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecCache.class);
+
+    // bump when the stored form or the processing before storing changes
+    private static final String FORMAT = "1";
+    private static final String SUFFIX = ".json.gz";
+    private static final Pattern REF = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]+)");
+
+    private final File directory;
+
+    public SpecCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the default cache directory, .swagger-codegen/cache in the home directory of the user
+     */
+    public static File defaultDirectory() {
+        return new File(System.getProperty("user.home"), ".swagger-codegen" + File.separator + "cache");
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Compute the cache key of a spec.
+     *
+     * @param inputSpec Location of the spec
+     * @param auth Authorization the spec is read with, may be null
+     * @return the key, null if the spec cannot be cached because it is not a local file or references a URL
+     */
+    public String key(String inputSpec, String auth) {
+        File spec = new File(inputSpec);
+        if (!spec.isFile()) {
+            LOGGER.debug("Not caching " + inputSpec + ", it is not a local file");
+            return null;
+        }
+        MessageDigest digest = sha256();
+        update(digest, FORMAT);
+        update(digest, ImplementationVersion.read());
+        // parser options, see CodegenConfigurator.readSwagger
+        update(digest, "resolve=true");
+        update(digest, auth == null ? "" : auth);
+
+        File root = spec.getAbsoluteFile().getParentFile();
+        Set<File> visited = new LinkedHashSet<File>();
+        Deque<File> queue = new ArrayDeque<File>();
+        queue.add(spec.getAbsoluteFile());
+        while (!queue.isEmpty()) {
+            File file = queue.poll();
+            if (!visited.add(file)) {
+                continue;
+            }
+            byte[] bytes;
+            try {
+                bytes = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                // a missing reference is reported by the parser, the key only has to differ from the one with the file
+                update(digest, "missing:" + relativePath(root, file));
+                continue;
+            }
+            update(digest, relativePath(root, file));
+            digest.update(bytes);
+
+            Matcher matcher = REF.matcher(new String(bytes, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String ref = matcher.group(1);
+                int hash = ref.indexOf('#');
+                String location = hash < 0 ? ref : ref.substring(0, hash);
+                if (location.isEmpty()) {
+                    continue;
+                }
+                if (location.contains("://")) {
+                    LOGGER.debug("Not caching " + inputSpec + ", it references " + location);
+                    return null;
+                }
+                queue.add(new File(file.getParentFile(), location).toPath().normalize().toFile());
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * @param key Cache key, see {@link #key(String, String)}
+     * @return a new copy of the cached spec, null if there is no entry for the key or it cannot be read
+     */
+    public Swagger load(String key) {
+        File file = new File(directory, key + SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            // stored by the mapper after parsing, resolving and flattening, no need to go through the parser again
+            Swagger swagger = Json.mapper().readValue(in, Swagger.class);
+            if (swagger != null) {
+                LOGGER.info("Using cached spec " + file);
+            }
+            return swagger;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring unreadable spec cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store a spec. Failing to store it is logged and otherwise ignored.
+     *
+     * @param key Cache key, see {@link #key(String, String)}
+     * @param swagger Parsed and flattened spec
+     */
+    public void store(String key, Swagger swagger) {
+        File file = new File(directory, key + SUFFIX);
+        File temp = null;
+        try {
+            FileUtils.forceMkdir(directory);
+            // concurrent builds may store the same key, so write aside and move into place
+            temp = File.createTempFile(key, ".tmp", directory);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()))) {
+                Json.mapper().writeValue(out, swagger);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store spec cache entry " + file + ": " + e.getMessage());
+            if (temp != null) {
+                FileUtils.deleteQuietly(temp);
+            }
+        }
+    }
+
+    private static String relativePath(File root, File file) {
+        return root.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+}
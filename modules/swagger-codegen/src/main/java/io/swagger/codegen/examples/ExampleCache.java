@@ -0,0 +1,75 @@
+package io.swagger.codegen.examples;
+
+import io.swagger.models.Model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Examples rendered for the models of one spec, shared by the example generators of a generation so that the
+ * example of a model referenced by many responses is rendered once.
+ * <p>
+ * A JSON example is reused as long as the model still has the example object it was rendered from, an XML example
+ * as long as the definitions hold the same model.
+ */
+public class ExampleCache {
+    private final Map<String, Model> definitions;
+    private final ConcurrentMap<String, Rendered> json = new ConcurrentHashMap<String, Rendered>();
+    private final ConcurrentMap<String, Rendered> xml = new ConcurrentHashMap<String, Rendered>();
+
+    /**
+     * @param definitions Models of the spec, may be null
+     */
+    public ExampleCache(Map<String, Model> definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * @param definitions Models of a spec
+     * @return {@code true} if the examples were rendered from the given models
+     */
+    public boolean isFor(Map<String, Model> definitions) {
+        return this.definitions == definitions;
+    }
+
+    String getJson(String key, Model model) {
+        Rendered rendered = json.get(key);
+        if (rendered != null && rendered.model == model && rendered.example == model.getExample()) {
+            return rendered.text;
+        }
+        return null;
+    }
+
+    void putJson(String key, Model model, String text) {
+        if (model.getExample() != null && text != null) {
+            json.put(key, new Rendered(model, model.getExample(), text));
+        }
+    }
+
+    String getXml(String key, Model model) {
+        Rendered rendered = xml.get(key);
+        if (rendered != null && rendered.model == model) {
+            return rendered.text;
+        }
+        return null;
+    }
+
+    void putXml(String key, Model model, String text) {
+        if (text != null) {
+            xml.put(key, new Rendered(model, null, text));
+        }
+    }
+
+    private static class Rendered {
+        private final Model model;
+        private final Object example;
+        private final String text;
+
+        Rendered(Model model, Object example, String text) {
+            this.model = model;
+            this.example = example;
+            this.text = text;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.swagger.codegen.examples;
 
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
+import io.swagger.models.Xml;
 import io.swagger.models.properties.*;
 import io.swagger.util.Json;
 import org.slf4j.Logger;
@@ -27,9 +28,19 @@ public class ExampleGenerator {
 
     protected Map<String, Model> examples;
     private Random random;
+    private final ExampleCache cache;
 
     public ExampleGenerator(Map<String, Model> examples) {
+        this(examples, new ExampleCache(examples));
+    }
+
+    /**
+     * @param examples Models of the spec
+     * @param cache Examples already rendered for the same models
+     */
+    public ExampleGenerator(Map<String, Model> examples, ExampleCache cache) {
         this.examples = examples;
+        this.cache = cache;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
     }
@@ -46,14 +57,14 @@ public class ExampleGenerator {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
-                    String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+                    String example = toJson(mediaType, property, processedModels);
 
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = toXml(property);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -91,7 +102,11 @@ public class ExampleGenerator {
                     final Model model = this.examples.get(modelName);
                     if (model != null) {
 
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
+                        String example = cache.getJson(modelName, model);
+                        if (example == null) {
+                            example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
+                            cache.putJson(modelName, model, example);
+                        }
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -100,7 +115,7 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Model model = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(model, 0, Collections.<String>emptySet());
+                    String example = model == null ? null : modelToXml(modelName, model, 0);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -123,6 +138,65 @@ public class ExampleGenerator {
         return output;
     }
 
+    private String toJson(String mediaType, Property property, Set<String> processedModels) {
+        // (arrays of) references render the example of the referenced model, which only has to be rendered once
+        StringBuilder key = new StringBuilder();
+        Property current = property;
+        while (current instanceof ArrayProperty && current.getExample() == null
+                && ((ArrayProperty) current).getItems() != null) {
+            Integer maxItems = ((ArrayProperty) current).getMaxItems();
+            key.append(maxItems == null ? 2 : Math.min(maxItems, 10)).append('/');
+            current = ((ArrayProperty) current).getItems();
+        }
+        Model model = null;
+        if (examples != null && current instanceof RefProperty && current.getExample() == null) {
+            String simpleName = ((RefProperty) current).getSimpleRef();
+            model = examples.get(simpleName);
+            key.append(simpleName);
+        }
+        if (model == null) {
+            return Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+        }
+
+        String example = cache.getJson(key.toString(), model);
+        if (example == null) {
+            example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+            cache.putJson(key.toString(), model, example);
+        }
+        return example;
+    }
+
+    private String toXml(Property property) {
+        // (arrays of) references render the XML of the referenced model, indented by the wrapped arrays
+        int indent = 0;
+        Property current = property;
+        while (current instanceof ArrayProperty) {
+            Xml xml = current.getXml();
+            if (xml != null && Boolean.TRUE.equals(xml.getWrapped())) {
+                indent++;
+            }
+            current = ((ArrayProperty) current).getItems();
+        }
+        if (examples != null && current instanceof RefProperty) {
+            String simpleName = ((RefProperty) current).getSimpleRef();
+            Model model = examples.get(simpleName);
+            if (model != null) {
+                return String.valueOf(modelToXml(simpleName, model, indent));
+            }
+        }
+        return new XmlExampleGenerator(this.examples).toXml(property);
+    }
+
+    private String modelToXml(String name, Model model, int indent) {
+        String key = name + "/" + indent;
+        String example = cache.getXml(key, model);
+        if (example == null) {
+            example = new XmlExampleGenerator(this.examples).toXml(model, indent, Collections.<String>emptySet());
+            cache.putXml(key, model, example);
+        }
+        return example;
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Property property, Set<String> processedModels) {
         logger.debug("Resolving example for property {}...", property);
         if (property.getExample() != null) {
@@ -54,27 +54,48 @@ public class XmlExampleGenerator {
     }
 
     protected String toXml(Model model, int indent, Collection<String> path) {
+        ModelImpl actualModel = actualModel(model);
+        if (actualModel == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        writeModel(sb, actualModel, indent, new HashSet<String>(path));
+        return sb.toString();
+    }
+
+    protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
+        StringBuilder sb = new StringBuilder();
+        writeModel(sb, model, indent, new HashSet<String>(path));
+        return sb.toString();
+    }
+
+    private ModelImpl actualModel(Model model) {
         if (model instanceof RefModel) {
-            RefModel ref = (RefModel) model;
-            Model actualModel = examples.get(ref.getSimpleRef());
+            Model actualModel = examples.get(((RefModel) model).getSimpleRef());
             if (actualModel instanceof ModelImpl) {
-                return modelImplToXml((ModelImpl) actualModel, indent, path);
+                return (ModelImpl) actualModel;
             }
         } else if (model instanceof ModelImpl) {
-            return modelImplToXml((ModelImpl) model, indent, path);
+            return (ModelImpl) model;
         }
         return null;
     }
 
-    protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
+    /**
+     * Write the XML of a model to the end of the given builder.
+     *
+     * @param sb Builder of the whole example
+     * @param model Model to write
+     * @param indent Indentation level of the model
+     * @param path Names of the models being written, to which the model is added while its properties are written
+     */
+    private void writeModel(StringBuilder sb, ModelImpl model, int indent, Set<String> path) {
         final String modelName = model.getName();
         if (path.contains(modelName)) {
-            return EMPTY;
+            return;
         }
-        final Set<String> selfPath = new HashSet<String>(path);
-        selfPath.add(modelName);
+        path.add(modelName);
 
-        StringBuilder sb = new StringBuilder();
         // attributes
         Map<String, Property> attributes = new LinkedHashMap<String, Property>();
         Map<String, Property> elements = new LinkedHashMap<String, Property>();
@@ -101,22 +122,24 @@ public class XmlExampleGenerator {
         sb.append(name);
         for (String pName : attributes.keySet()) {
             Property p = attributes.get(pName);
-            sb.append(" ").append(pName).append("=").append(quote(toXml(null, p, 0, selfPath)));
+            StringBuilder value = new StringBuilder();
+            writeProperty(value, null, p, 0, path);
+            sb.append(" ").append(pName).append("=").append(quote(value.toString()));
         }
         sb.append(CLOSE_TAG);
         sb.append(NEWLINE);
         for (String pName : elements.keySet()) {
             Property p = elements.get(pName);
-            final String asXml = toXml(pName, p, indent + 1, selfPath);
-            if (StringUtils.isEmpty(asXml)) {
+            int start = sb.length();
+            writeProperty(sb, pName, p, indent + 1, path);
+            if (sb.length() == start) {
                 continue;
             }
-            sb.append(asXml);
             sb.append(NEWLINE);
         }
         sb.append(indent(indent)).append(TAG_END).append(name).append(CLOSE_TAG);
 
-        return sb.toString();
+        path.remove(modelName);
     }
 
     @SuppressWarnings("static-method")
@@ -125,10 +148,15 @@ public class XmlExampleGenerator {
     }
 
     protected String toXml(String name, Property property, int indent, Collection<String> path) {
+        StringBuilder sb = new StringBuilder();
+        writeProperty(sb, name, property, indent, new HashSet<String>(path));
+        return sb.toString();
+    }
+
+    private void writeProperty(StringBuilder sb, String name, Property property, int indent, Set<String> path) {
         if (property == null) {
-            return "";
+            return;
         }
-        StringBuilder sb = new StringBuilder();
 
         if (property instanceof ArrayProperty) {
             ArrayProperty p = (ArrayProperty) property;
@@ -144,9 +172,12 @@ public class XmlExampleGenerator {
                     sb.append(openTag(name));
                     prefix = NEWLINE;
                 }
-                final String asXml = toXml(name, inner, indent + 1, path);
-                if (StringUtils.isNotEmpty(asXml)) {
-                    sb.append(prefix).append(asXml);
+                int start = sb.length();
+                sb.append(prefix);
+                int innerStart = sb.length();
+                writeProperty(sb, name, inner, indent + 1, path);
+                if (sb.length() == innerStart) {
+                    sb.setLength(start);
                 }
                 if (name != null) {
                     sb.append(NEWLINE);
@@ -154,12 +185,16 @@ public class XmlExampleGenerator {
                     sb.append(closeTag(name));
                 }
             } else {
-                sb.append(toXml(name, inner, indent, path));
+                writeProperty(sb, name, inner, indent, path);
             }
         } else if (property instanceof RefProperty) {
             RefProperty ref = (RefProperty) property;
-            Model actualModel = examples.get(ref.getSimpleRef());
-            sb.append(toXml(actualModel, indent, path));
+            ModelImpl actualModel = actualModel(examples.get(ref.getSimpleRef()));
+            if (actualModel == null) {
+                sb.append((String) null);
+            } else {
+                writeModel(sb, actualModel, indent, path);
+            }
         } else {
             if (name != null) {
                 sb.append(indent(indent));
@@ -170,7 +205,6 @@ public class XmlExampleGenerator {
                 sb.append(closeTag(name));
             }
         }
-        return sb.toString();
     }
 
     /**
@@ -225,10 +259,6 @@ public class XmlExampleGenerator {
 
     @SuppressWarnings("static-method")
     protected String indent(int indent) {
-        StringBuffer sb = new StringBuffer();
-        for (int i = 0; i < indent; i++) {
-            sb.append("  ");
-        }
-        return sb.toString();
+        return StringUtils.repeat("  ", indent);
     }
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package io.swagger.codegen.ignore;
 
 import com.google.common.collect.ImmutableList;
-import io.swagger.codegen.ignore.rules.DirectoryRule;
+import io.swagger.codegen.ignore.rules.IgnoreMatcher;
 import io.swagger.codegen.ignore.rules.Rule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -23,6 +24,11 @@ public class CodegenIgnoreProcessor {
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
 
+    private IgnoreMatcher matcher = null;
+    private URI baseUri = null;
+    // absolute path of the ignore file's directory ending with '/', null where paths can't be relativized as strings
+    private String basePrefix = null;
+
     /**
      * Loads the default ignore file (.swagger-codegen-ignore) from the specified path.
      *
@@ -63,6 +69,12 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.matcher = new IgnoreMatcher(exclusionRules, inclusionRules);
+                this.baseUri = targetIgnoreFile.getParentFile().toURI();
+                String base = targetIgnoreFile.getParentFile().getAbsolutePath();
+                if (File.separatorChar == '/' && isNormalized(base)) {
+                    this.basePrefix = base.endsWith("/") ? base : base + "/";
+                }
             } catch (IOException e) {
                 LOGGER.error(String.format("Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -108,66 +120,53 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if(this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        Boolean directoryExcluded = false;
-        Boolean exclude = false;
         if(exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
-        // NOTE: We *must* process all exclusion rules
-        for (int i = 0; i < exclusionRules.size(); i++) {
-            Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
-
-            switch (op){
-                case EXCLUDE:
-                    exclude = true;
+        // NOTE: Include rules can't override rules that exclude a file by some parent directory, see IgnoreMatcher.
+        return matcher.allows(relativePath(targetFile));
+    }
 
-                    // Include rule can't override rules that exclude a file by some parent directory.
-                    if(current instanceof DirectoryRule) {
-                        directoryExcluded = true;
-                    }
-                    break;
-                case INCLUDE:
-                    // This won't happen here.
-                    break;
-                case NOOP:
-                    break;
-                case EXCLUDE_AND_TERMINATE:
-                    i = exclusionRules.size();
-                    break;
+    /**
+     * Path of a file relative to the directory of the ignore file, the absolute path if the file is outside of it.
+     */
+    private String relativePath(final File targetFile) {
+        if (basePrefix != null) {
+            // same as relativizing URIs for normalized paths, without checking whether the file is a directory
+            String target = targetFile.getAbsolutePath();
+            if (target.length() > basePrefix.length() && target.startsWith(basePrefix) && isNormalized(target)) {
+                return target.substring(basePrefix.length());
             }
         }
+        return new File(baseUri.relativize(targetFile.toURI()).getPath()).getPath();
+    }
 
-        if(exclude) {
-            // Only need to process inclusion rules if we've been excluded
-            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
-                Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
-
-                // At this point exclude=true means the file should be ignored.
-                // op == INCLUDE means we have to flip that flag.
-                if(op.equals(Rule.Operation.INCLUDE)) {
-                    if(current instanceof DirectoryRule && directoryExcluded) {
-                        // e.g
-                        // baz/
-                        // !foo/bar/baz/
-                        // NOTE: Possibly surprising side effect:
-                        // foo/bar/baz/
-                        // !bar/
-                        exclude = false;
-                    } else if (!directoryExcluded) {
-                        // e.g.
-                        // **/*.log
-                        // !ISSUE_1234.log
-                        exclude = false;
-                    }
+    /**
+     * @return {@code true} if the path has no . or .. segments and no characters that don't survive URI encoding
+     */
+    private static boolean isNormalized(String path) {
+        int segmentStart = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                int length = i - segmentStart;
+                if ((length == 1 || length == 2) && path.charAt(segmentStart) == '.'
+                        && path.charAt(i - 1) == '.') {
+                    return false;
                 }
+                segmentStart = i + 1;
+            } else if (Character.isSurrogate(path.charAt(i))) {
+                return false;
             }
         }
+        return true;
+    }
 
-        return Boolean.FALSE.equals(exclude);
+    /**
+     * @return the ignore file the rules were loaded from, null if there was none
+     */
+    public File getIgnoreFile() {
+        return ignoreFile;
     }
 
     /**
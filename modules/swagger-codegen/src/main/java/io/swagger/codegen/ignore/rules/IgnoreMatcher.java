@@ -0,0 +1,235 @@
+package io.swagger.codegen.ignore.rules;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The exclusion and inclusion rules of an ignore file, prepared for evaluating every file of a generated project.
+ * <p>
+ * Patterns without wildcards are looked up in hash sets, the glob matchers of the other patterns are shared by all
+ * paths and skipped when the literal start or end of the pattern doesn't fit, and whether directory rules match the
+ * contents of a directory is decided once per directory. The result is the same as evaluating the rules one by one.
+ */
+public class IgnoreMatcher {
+
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+    // glob characters after which a directory pattern may not simply be followed by "/**"
+    private static final String GROUP_CHARACTERS = "[]{}\\";
+    // comparing path strings is only exact where globs are case sensitive and paths are separated by '/'
+    private static final boolean SLASH_SEPARATED = "/".equals(FileSystems.getDefault().getSeparator());
+
+    private static final int DIRECTORY = 1;
+    private static final int FILE = 2;
+
+    private final Rules exclusions;
+    private final Rules inclusions;
+
+    /**
+     * @param exclusionRules Rules excluding files, in the order of the ignore file
+     * @param inclusionRules Negated rules including files again, in the order of the ignore file
+     */
+    public IgnoreMatcher(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        this.exclusions = new Rules(exclusionRules, Rule.Operation.EXCLUDE);
+        this.inclusions = new Rules(inclusionRules, Rule.Operation.INCLUDE);
+    }
+
+    /**
+     * @param relativePath Path of a file relative to the ignore file
+     * @return {@code false} if the file is excluded and not included again, otherwise {@code true}
+     */
+    public boolean allows(String relativePath) {
+        Path path = FileSystems.getDefault().getPath(relativePath);
+        String pathString = path.toString();
+
+        int excluded = exclusions.match(relativePath, path, pathString);
+        if (excluded == 0) {
+            return true;
+        }
+        int included = inclusions.match(relativePath, path, pathString);
+        if ((excluded & DIRECTORY) != 0) {
+            // Include rule can't override rules that exclude a file by some parent directory.
+            return (included & DIRECTORY) != 0;
+        }
+        return included != 0;
+    }
+
+    private static boolean isLiteral(String pattern, String globCharacters) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (globCharacters.indexOf(pattern.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The rules of one list, of which only whether any directory rule and whether any other rule matches is needed.
+     */
+    private static class Rules {
+        private final Rule.Operation matchOperation;
+
+        private final Set<String> literalFiles = new HashSet<String>();
+        private final List<GlobFile> globFiles = new ArrayList<GlobFile>();
+        private final List<Rule> otherFiles = new ArrayList<Rule>();
+
+        // directory rules X/ which match a path if X matches one of its parent directories
+        private final Set<String> literalDirectories = new HashSet<String>();
+        private final List<PathMatcher> globDirectories = new ArrayList<PathMatcher>();
+        private final List<DirectoryRule> directoryContentsRules = new ArrayList<DirectoryRule>();
+        // directory rules evaluated on every path
+        private final List<DirectoryRule> otherDirectories = new ArrayList<DirectoryRule>();
+        private final ConcurrentMap<String, Boolean> directoryDecisions = new ConcurrentHashMap<String, Boolean>();
+
+        Rules(List<Rule> rules, Rule.Operation matchOperation) {
+            this.matchOperation = matchOperation;
+            for (Rule rule : rules) {
+                if (rule instanceof InvalidRule) {
+                    continue;
+                }
+                if (rule instanceof DirectoryRule) {
+                    addDirectory((DirectoryRule) rule);
+                } else if (rule instanceof FileRule) {
+                    addFile((FileRule) rule);
+                } else {
+                    otherFiles.add(rule);
+                }
+            }
+        }
+
+        private void addFile(FileRule rule) {
+            String pattern = rule.getPattern();
+            if (!SLASH_SEPARATED) {
+                globFiles.add(new GlobFile(rule, "", ""));
+            } else if (isLiteral(pattern, GLOB_CHARACTERS)) {
+                literalFiles.add(pattern);
+            } else {
+                int first = 0;
+                while (GLOB_CHARACTERS.indexOf(pattern.charAt(first)) < 0) {
+                    first++;
+                }
+                int last = pattern.length() - 1;
+                while (GLOB_CHARACTERS.indexOf(pattern.charAt(last)) < 0) {
+                    last--;
+                }
+                globFiles.add(new GlobFile(rule, pattern.substring(0, first), pattern.substring(last + 1)));
+            }
+        }
+
+        private void addDirectory(DirectoryRule rule) {
+            String pattern = rule.getPattern();
+            // the contents pattern of the rule is X/**
+            String directory = pattern.endsWith("/") ? pattern.substring(0, pattern.length() - 1) : pattern;
+            if (!SLASH_SEPARATED || !isLiteral(directory, GROUP_CHARACTERS)) {
+                otherDirectories.add(rule);
+                return;
+            }
+            if (isLiteral(directory, GLOB_CHARACTERS)) {
+                literalDirectories.add(directory);
+            } else {
+                globDirectories.add(FileSystems.getDefault().getPathMatcher("glob:" + directory));
+            }
+            directoryContentsRules.add(rule);
+        }
+
+        int match(String relativePath, Path path, String pathString) {
+            int flags = 0;
+            if (matchesDirectory(path, pathString)) {
+                flags |= DIRECTORY;
+            }
+            if (matchesFile(relativePath, path, pathString)) {
+                flags |= FILE;
+            }
+            return flags;
+        }
+
+        private boolean matchesFile(String relativePath, Path path, String pathString) {
+            if (literalFiles.contains(pathString)) {
+                return true;
+            }
+            for (GlobFile globFile : globFiles) {
+                if (pathString.startsWith(globFile.prefix) && pathString.endsWith(globFile.suffix)
+                        && globFile.rule.matches(path)) {
+                    return true;
+                }
+            }
+            for (Rule rule : otherFiles) {
+                if (rule.evaluate(relativePath) == matchOperation) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesDirectory(Path path, String pathString) {
+            if (!directoryContentsRules.isEmpty()) {
+                int separator = pathString.lastIndexOf('/');
+                if (separator >= 0 && matchesContents(pathString.substring(0, separator))) {
+                    return true;
+                }
+                // only a path ending with a separator can match the directory itself
+                if (pathString.endsWith("/")) {
+                    for (DirectoryRule rule : directoryContentsRules) {
+                        if (rule.matches(path)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            for (DirectoryRule rule : otherDirectories) {
+                if (rule.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @param directory A parent directory of the evaluated path
+         * @return whether a directory rule matches the directory or one of its parent directories
+         */
+        private boolean matchesContents(String directory) {
+            Boolean decision = directoryDecisions.get(directory);
+            if (decision == null) {
+                int separator = directory.lastIndexOf('/');
+                decision = (separator >= 0 && matchesContents(directory.substring(0, separator)))
+                        || literalDirectories.contains(directory)
+                        || matchesGlobDirectory(directory);
+                directoryDecisions.put(directory, decision);
+            }
+            return decision;
+        }
+
+        private boolean matchesGlobDirectory(String directory) {
+            if (globDirectories.isEmpty()) {
+                return false;
+            }
+            Path path = FileSystems.getDefault().getPath(directory);
+            for (PathMatcher matcher : globDirectories) {
+                if (matcher.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class GlobFile {
+        private final FileRule rule;
+        // literal start and end of the pattern, which every matching path starts and ends with
+        private final String prefix;
+        private final String suffix;
+
+        GlobFile(FileRule rule, String prefix, String suffix) {
+            this.rule = rule;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+}
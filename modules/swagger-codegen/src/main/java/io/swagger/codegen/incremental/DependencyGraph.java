@@ -0,0 +1,142 @@
+package io.swagger.codegen.incremental;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Persisted state of an incremental generation: a fingerprint of every definition and api group of
+ * the spec, the definitions each of them depends on, and the files produced from them.
+ *
+ * Stored as JSON in {@code <outputFolder>/.swagger-codegen/DEPENDENCIES}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DependencyGraph {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DependencyGraph.class);
+
+    public static final String DEPENDENCIES_FILENAME = "DEPENDENCIES";
+
+    private String configFingerprint;
+    private String supportingFingerprint;
+    private List<String> supportingFiles;
+    private Map<String, Node> definitions = new TreeMap<String, Node>();
+    private Map<String, Node> apis = new TreeMap<String, Node>();
+
+    public static File getDependenciesFile(String outputFolder) {
+        return new File(new File(outputFolder, ".swagger-codegen"), DEPENDENCIES_FILENAME);
+    }
+
+    /**
+     * Load the dependency graph of the previous run.
+     *
+     * @param outputFolder Output folder of the generation
+     * @return the graph, or null if there is none or it cannot be read
+     */
+    public static DependencyGraph load(String outputFolder) {
+        File file = getDependenciesFile(outputFolder);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return Json.mapper().readValue(file, DependencyGraph.class);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + file + ", all files will be generated: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(String outputFolder) throws IOException {
+        File file = getDependenciesFile(outputFolder);
+        if (!file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+        Json.mapper().writeValue(file, this);
+    }
+
+    public String getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    public void setConfigFingerprint(String configFingerprint) {
+        this.configFingerprint = configFingerprint;
+    }
+
+    public String getSupportingFingerprint() {
+        return supportingFingerprint;
+    }
+
+    public void setSupportingFingerprint(String supportingFingerprint) {
+        this.supportingFingerprint = supportingFingerprint;
+    }
+
+    public List<String> getSupportingFiles() {
+        return supportingFiles;
+    }
+
+    public void setSupportingFiles(List<String> supportingFiles) {
+        this.supportingFiles = supportingFiles;
+    }
+
+    public Map<String, Node> getDefinitions() {
+        return definitions;
+    }
+
+    public void setDefinitions(Map<String, Node> definitions) {
+        this.definitions = new TreeMap<String, Node>(definitions);
+    }
+
+    public Map<String, Node> getApis() {
+        return apis;
+    }
+
+    public void setApis(Map<String, Node> apis) {
+        this.apis = new TreeMap<String, Node>(apis);
+    }
+
+    /**
+     * A definition or api group, with the definitions it depends on and the files generated from it.
+     * {@code files} is null as long as the node was not part of the generation run.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Node {
+        private String fingerprint;
+        private Set<String> dependsOn = new TreeSet<String>();
+        private List<String> files;
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public void setFingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        public Set<String> getDependsOn() {
+            return dependsOn;
+        }
+
+        public void setDependsOn(Set<String> dependsOn) {
+            this.dependsOn = new TreeSet<String>(dependsOn);
+        }
+
+        public List<String> getFiles() {
+            return files;
+        }
+
+        public void setFiles(List<String> files) {
+            this.files = files == null ? null : new ArrayList<String>(files);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package io.swagger.codegen.incremental;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.output.OutputManifest;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.RefModel;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Decides which definitions, api groups and supporting files have to be regenerated, based on the
+ * {@link DependencyGraph} of the previous run.
+ *
+ * A definition is stale if its own fingerprint changed, or if it transitively depends on a stale
+ * definition through a $ref, an allOf parent/child relation or an import. An api group is stale if
+ * its operations changed or it depends on a stale definition. Everything is stale if the generator
+ * configuration changed.
+ */
+public class IncrementalGeneration {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalGeneration.class);
+
+    private static final String DEFINITIONS_PREFIX = "#/definitions/";
+
+    private final String outputFolder;
+    private final Path root;
+    private final DependencyGraph previous;
+    private final DependencyGraph current = new DependencyGraph();
+    private Set<String> staleDefinitions;
+    private int upToDate;
+    private int regenerated;
+
+    public IncrementalGeneration(String outputFolder, String configFingerprint) {
+        this.outputFolder = outputFolder;
+        this.root = new File(outputFolder).toPath().toAbsolutePath().normalize();
+        this.current.setConfigFingerprint(configFingerprint);
+
+        DependencyGraph loaded = DependencyGraph.load(outputFolder);
+        if (loaded != null && !configFingerprint.equals(loaded.getConfigFingerprint())) {
+            LOGGER.info("Generator configuration changed, regenerating all files");
+            loaded = null;
+        }
+        this.previous = loaded;
+    }
+
+    /**
+     * Register a (flattened) definition of the spec.
+     *
+     * @param name Definition name
+     * @param model Definition
+     */
+    public void addDefinition(String name, Model model) {
+        DependencyGraph.Node node = definitionNode(name);
+        Set<String> refs = new TreeSet<String>();
+        node.setFingerprint(fingerprint(model, refs));
+        refs.remove(name);
+        node.getDependsOn().addAll(refs);
+
+        // a parent may render its sub types (e.g. discriminator mappings), so depend both ways
+        if (model instanceof ComposedModel && ((ComposedModel) model).getAllOf() != null) {
+            for (Model component : ((ComposedModel) model).getAllOf()) {
+                if (component instanceof RefModel) {
+                    definitionNode(((RefModel) component).getSimpleRef()).getDependsOn().add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add dependencies of a definition found while processing it, e.g. its imports.
+     *
+     * @param name Definition name
+     * @param dependencies Names of the definitions it depends on
+     */
+    public void addDefinitionDependencies(String name, Collection<String> dependencies) {
+        DependencyGraph.Node node = definitionNode(name);
+        for (String dependency : dependencies) {
+            if (!name.equals(dependency)) {
+                node.getDependsOn().add(dependency);
+            }
+        }
+    }
+
+    /**
+     * Register an api group with the spec objects it is generated from, typically its operations.
+     *
+     * @param tag Api group name
+     * @param sources Spec objects the api group is generated from, in a stable order
+     * @param dependencies Names of additional definitions the api group depends on, e.g. its imports
+     */
+    public void addApi(String tag, List<Object> sources, Collection<String> dependencies) {
+        DependencyGraph.Node node = new DependencyGraph.Node();
+        Set<String> refs = new TreeSet<String>();
+        node.setFingerprint(fingerprint(sources, refs));
+        node.getDependsOn().addAll(refs);
+        node.getDependsOn().addAll(dependencies);
+        current.getApis().put(tag, node);
+    }
+
+    public synchronized boolean isDefinitionUpToDate(String name) {
+        DependencyGraph.Node node = current.getDefinitions().get(name);
+        DependencyGraph.Node old = previous == null ? null : previous.getDefinitions().get(name);
+        boolean result = node != null && old != null && !getStaleDefinitions().contains(name) && filesExist(old.getFiles());
+        count(result);
+        return result;
+    }
+
+    public synchronized boolean isApiUpToDate(String tag) {
+        DependencyGraph.Node node = current.getApis().get(tag);
+        DependencyGraph.Node old = previous == null ? null : previous.getApis().get(tag);
+        boolean result = node != null && old != null && node.getFingerprint() != null
+                && node.getFingerprint().equals(old.getFingerprint())
+                && !dependsOnStale(node) && filesExist(old.getFiles());
+        count(result);
+        return result;
+    }
+
+    public boolean isSupportingUpToDate(String fingerprint) {
+        current.setSupportingFingerprint(fingerprint);
+        return previous != null && fingerprint != null && fingerprint.equals(previous.getSupportingFingerprint())
+                && filesExist(previous.getSupportingFiles());
+    }
+
+    public List<File> getPreviousDefinitionFiles(String name) {
+        return toFiles(previous.getDefinitions().get(name).getFiles());
+    }
+
+    public List<File> getPreviousApiFiles(String tag) {
+        return toFiles(previous.getApis().get(tag).getFiles());
+    }
+
+    public List<File> getPreviousSupportingFiles() {
+        return toFiles(previous.getSupportingFiles());
+    }
+
+    public synchronized void recordDefinitionFiles(String name, List<File> files) {
+        definitionNode(name).setFiles(toPaths(files));
+    }
+
+    public synchronized void recordApiFiles(String tag, List<File> files) {
+        DependencyGraph.Node node = current.getApis().get(tag);
+        if (node != null) {
+            node.setFiles(toPaths(files));
+        }
+    }
+
+    public synchronized void recordSupportingFiles(List<File> files) {
+        current.setSupportingFiles(toPaths(files));
+    }
+
+    /**
+     * Combine the fingerprints of all definitions and api groups registered so far.
+     *
+     * @param extra Additional spec objects to include, e.g. info and security definitions
+     * @return the combined fingerprint
+     */
+    public String combinedFingerprint(Object extra) {
+        StringBuilder sb = new StringBuilder(current.getConfigFingerprint());
+        for (Map.Entry<String, DependencyGraph.Node> entry : current.getDefinitions().entrySet()) {
+            sb.append('\n').append(entry.getKey()).append('=').append(entry.getValue().getFingerprint());
+        }
+        for (Map.Entry<String, DependencyGraph.Node> entry : current.getApis().entrySet()) {
+            sb.append('\n').append(entry.getKey()).append('=').append(entry.getValue().getFingerprint());
+        }
+        sb.append('\n').append(fingerprint(extra, new HashSet<String>()));
+        return hash(sb.toString());
+    }
+
+    /**
+     * Store the graph of this run. Definitions and api groups that were not part of this run keep
+     * their state from the previous run.
+     *
+     * @throws IOException if the graph cannot be written
+     */
+    public void save() throws IOException {
+        carryOver(current.getDefinitions(), previous == null ? null : previous.getDefinitions());
+        carryOver(current.getApis(), previous == null ? null : previous.getApis());
+        if (current.getSupportingFiles() == null && previous != null) {
+            current.setSupportingFingerprint(previous.getSupportingFingerprint());
+            current.setSupportingFiles(previous.getSupportingFiles());
+        }
+        current.save(outputFolder);
+        LOGGER.info("Incremental generation: " + regenerated + " definitions/apis regenerated, " + upToDate + " up to date");
+    }
+
+    public static String hash(String value) {
+        return Long.toHexString(OutputManifest.hash(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void carryOver(Map<String, DependencyGraph.Node> nodes, Map<String, DependencyGraph.Node> previousNodes) {
+        Iterator<Map.Entry<String, DependencyGraph.Node>> it = nodes.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, DependencyGraph.Node> entry = it.next();
+            if (entry.getValue().getFiles() != null) {
+                continue;
+            }
+            DependencyGraph.Node old = previousNodes == null ? null : previousNodes.get(entry.getKey());
+            if (old != null && old.getFiles() != null) {
+                entry.setValue(old);
+            } else {
+                it.remove();
+            }
+        }
+    }
+
+    private DependencyGraph.Node definitionNode(String name) {
+        DependencyGraph.Node node = current.getDefinitions().get(name);
+        if (node == null) {
+            node = new DependencyGraph.Node();
+            current.getDefinitions().put(name, node);
+        }
+        return node;
+    }
+
+    private synchronized Set<String> getStaleDefinitions() {
+        if (staleDefinitions != null) {
+            return staleDefinitions;
+        }
+        Set<String> stale = new HashSet<String>();
+        Map<String, DependencyGraph.Node> nodes = current.getDefinitions();
+        if (previous == null) {
+            stale.addAll(nodes.keySet());
+        } else {
+            for (Map.Entry<String, DependencyGraph.Node> entry : nodes.entrySet()) {
+                DependencyGraph.Node old = previous.getDefinitions().get(entry.getKey());
+                String fingerprint = entry.getValue().getFingerprint();
+                if (old == null || fingerprint == null || !fingerprint.equals(old.getFingerprint())) {
+                    stale.add(entry.getKey());
+                }
+            }
+            // removed definitions invalidate everything that referred to them
+            for (String name : previous.getDefinitions().keySet()) {
+                if (!nodes.containsKey(name)) {
+                    stale.add(name);
+                }
+            }
+        }
+
+        // propagate along the reverse dependency edges
+        Map<String, Set<String>> dependents = new HashMap<String, Set<String>>();
+        for (Map.Entry<String, DependencyGraph.Node> entry : nodes.entrySet()) {
+            for (String dependency : entry.getValue().getDependsOn()) {
+                Set<String> set = dependents.get(dependency);
+                if (set == null) {
+                    set = new HashSet<String>();
+                    dependents.put(dependency, set);
+                }
+                set.add(entry.getKey());
+            }
+        }
+        Deque<String> queue = new ArrayDeque<String>(stale);
+        while (!queue.isEmpty()) {
+            Set<String> set = dependents.get(queue.poll());
+            if (set == null) {
+                continue;
+            }
+            for (String dependent : set) {
+                if (stale.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        staleDefinitions = stale;
+        return stale;
+    }
+
+    private boolean dependsOnStale(DependencyGraph.Node node) {
+        Set<String> stale = getStaleDefinitions();
+        for (String dependency : node.getDependsOn()) {
+            if (stale.contains(dependency)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void count(boolean isUpToDate) {
+        if (isUpToDate) {
+            upToDate++;
+        } else {
+            regenerated++;
+        }
+    }
+
+    private boolean filesExist(List<String> paths) {
+        if (paths == null) {
+            return false;
+        }
+        for (String path : paths) {
+            if (!toFile(path).exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<File> toFiles(List<String> paths) {
+        List<File> files = new ArrayList<File>();
+        if (paths != null) {
+            for (String path : paths) {
+                files.add(toFile(path));
+            }
+        }
+        return files;
+    }
+
+    private File toFile(String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(outputFolder, path);
+    }
+
+    private List<String> toPaths(List<File> files) {
+        List<String> paths = new ArrayList<String>();
+        for (File file : files) {
+            Path path = file.toPath().toAbsolutePath().normalize();
+            if (path.startsWith(root)) {
+                path = root.relativize(path);
+            }
+            paths.add(path.toString().replace(File.separatorChar, '/'));
+        }
+        return paths;
+    }
+
+    /**
+     * Fingerprint a spec object through its JSON representation, collecting the names of the
+     * definitions it references.
+     */
+    private static String fingerprint(Object value, Set<String> refs) {
+        try {
+            JsonNode node = Json.mapper().valueToTree(value);
+            collectRefs(node, refs);
+            return Long.toHexString(OutputManifest.hash(Json.mapper().writeValueAsBytes(node)));
+        } catch (Exception e) {
+            LOGGER.debug("Could not fingerprint " + value + ", it will always be regenerated: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void collectRefs(JsonNode node, Set<String> refs) {
+        if (node == null) {
+            return;
+        }
+        if (node.isObject()) {
+            JsonNode ref = node.get("$ref");
+            if (ref != null && ref.isTextual() && ref.asText().startsWith(DEFINITIONS_PREFIX)) {
+                refs.add(ref.asText().substring(DEFINITIONS_PREFIX.length()));
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectRefs(child, refs);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
 import io.swagger.codegen.*;
 import io.swagger.codegen.mustache.*;
+import io.swagger.codegen.utils.Escaper;
 import io.swagger.codegen.utils.ModelUtils;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
@@ -28,6 +29,16 @@ import java.util.Set;
 
 public abstract class AbstractCSharpCodegen extends DefaultCodegen implements CodegenConfig {
 
+    // remove " to avoid code injection
+    private static final Escaper QUOTATION_MARK_ESCAPER = Escaper.builder().replace("\"", "").build();
+    private static final Escaper UNSAFE_CHARACTERS_ESCAPER = Escaper.builder()
+            .replace("*/", "*_/")
+            .replace("/*", "/_*")
+            .replace("--", "- -")
+            .replace("~~N1", "\n    /// ")
+            .replace("~~N2", "\n        /// ")
+            .build();
+
     protected boolean optionalAssemblyInfoFlag = true;
     protected boolean optionalProjectFileFlag = true;
     protected boolean optionalEmitDefaultValue = false;
@@ -1051,17 +1062,11 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen implements Co
 
     @Override
     public String escapeQuotationMark(String input) {
-        // remove " to avoid code injection
-        return input.replace("\"", "");
+        return QUOTATION_MARK_ESCAPER.escape(input);
     }
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        String intermediate = input.replace("*/", "*_/").replace("/*", "/_*").replace("--", "- -");
-
-        intermediate = intermediate.replaceAll("~~N1", "\n    /// ");
-        intermediate = intermediate.replaceAll("~~N2", "\n        /// ");
-
-        return intermediate;
+        return UNSAFE_CHARACTERS_ESCAPER.escape(input);
     }
 }
@@ -1,6 +1,7 @@
 package io.swagger.codegen.languages;
 
 import io.swagger.codegen.*;
+import io.swagger.codegen.mustache.Lazy;
 import io.swagger.models.properties.ArrayProperty;
 import io.swagger.models.properties.MapProperty;
 import io.swagger.models.properties.Property;
@@ -9,6 +10,7 @@ import io.swagger.models.Swagger;
 import io.swagger.util.Yaml;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -418,13 +420,20 @@ public abstract class AbstractGoCodegen extends DefaultCodegen implements Codege
 
     @Override
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
-        Swagger swagger = (Swagger) objs.get("swagger");
+        final Swagger swagger = (Swagger) objs.get("swagger");
         if (swagger != null) {
-            try {
-                objs.put("swagger-yaml", Yaml.mapper().writeValueAsString(swagger));
-            } catch (JsonProcessingException e) {
-                LOGGER.error(e.getMessage(), e);
-            }
+            // only serialized if api/swagger.yaml is generated
+            objs.put("swagger-yaml", Lazy.of(new Callable<String>() {
+                @Override
+                public String call() {
+                    try {
+                        return Yaml.mapper().writeValueAsString(swagger);
+                    } catch (JsonProcessingException e) {
+                        LOGGER.error(e.getMessage(), e);
+                        return null;
+                    }
+                }
+            }));
         }
         return super.postProcessSupportingFileData(objs);
     }
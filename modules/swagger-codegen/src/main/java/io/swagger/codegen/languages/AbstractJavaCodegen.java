@@ -27,6 +27,7 @@ import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenParameter;
 import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.utils.Escaper;
 import io.swagger.models.Model;
 import io.swagger.models.Operation;
 import io.swagger.models.Path;
@@ -49,6 +50,12 @@ import static io.swagger.codegen.languages.features.NotNullAnnotationFeatures.NO
 public abstract class AbstractJavaCodegen extends DefaultCodegen implements CodegenConfig {
 
     static Logger LOGGER = LoggerFactory.getLogger(AbstractJavaCodegen.class);
+    // remove " to avoid code injection
+    private static final Escaper QUOTATION_MARK_ESCAPER = Escaper.builder().replace("\"", "").build();
+    private static final Escaper UNSAFE_CHARACTERS_ESCAPER = Escaper.builder()
+            .replace("*/", "*_/")
+            .replace("/*", "/_*")
+            .build();
     public static final String FULL_JAVA_UTIL = "fullJavaUtil";
     public static final String DEFAULT_LIBRARY = "<default>";
     public static final String DATE_LIBRARY = "dateLibrary";
@@ -1338,13 +1345,12 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
 
     @Override
     public String escapeQuotationMark(String input) {
-        // remove " to avoid code injection
-        return input.replace("\"", "");
+        return QUOTATION_MARK_ESCAPER.escape(input);
     }
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return UNSAFE_CHARACTERS_ESCAPER.escape(input);
     }
 
     /*
@@ -9,6 +9,7 @@ import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.DefaultCodegen;
 import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.utils.Escaper;
 import io.swagger.models.properties.*;
 
 import java.io.File;
@@ -27,6 +28,9 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractPhpCodegen extends DefaultCodegen implements CodegenConfig {
 
     static Logger LOGGER = LoggerFactory.getLogger(AbstractPhpCodegen.class);
+    // remove ' to avoid code injection
+    private static final Escaper QUOTATION_MARK_ESCAPER = Escaper.builder().replace("'", "").build();
+    private static final Escaper UNSAFE_CHARACTERS_ESCAPER = Escaper.builder().replace("*/", "").build();
 
     public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
     public static final String PACKAGE_PATH = "packagePath";
@@ -655,13 +659,12 @@ public abstract class AbstractPhpCodegen extends DefaultCodegen implements Codeg
 
     @Override
     public String escapeQuotationMark(String input) {
-        // remove ' to avoid code injection
-        return input.replace("'", "");
+        return QUOTATION_MARK_ESCAPER.escape(input);
     }
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "");
+        return UNSAFE_CHARACTERS_ESCAPER.escape(input);
     }
 
     protected String extractSimpleName(String phpClassName) {
@@ -41,6 +41,10 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegen imp
         // at the moment
         importMapping.clear();
 
+        // the typescript templates render neither the examples nor the spec, whose models get the
+        // examples generated for them
+        unusedTemplateFields.addAll(Arrays.asList("examples", "requestBodyExamples"));
+
         supportsInheritance = true;
         setReservedWordsLowerCase(Arrays.asList(
                 // local variable names used in API methods (endpoints)
@@ -9,6 +9,7 @@ import io.swagger.codegen.CodegenProperty;
 import io.swagger.codegen.CodegenType;
 import io.swagger.codegen.DefaultCodegen;
 import io.swagger.codegen.SupportingFile;
+import io.swagger.codegen.utils.Escaper;
 import io.swagger.models.properties.*;
 
 import java.io.File;
@@ -29,6 +30,12 @@ import org.slf4j.LoggerFactory;
 public class PhpClientCodegen extends DefaultCodegen implements CodegenConfig {
     @SuppressWarnings("hiding")
     static Logger LOGGER = LoggerFactory.getLogger(PhpClientCodegen.class);
+    // remove ' to avoid code injection
+    private static final Escaper QUOTATION_MARK_ESCAPER = Escaper.builder().replace("'", "").build();
+    private static final Escaper UNSAFE_CHARACTERS_ESCAPER = Escaper.builder()
+            .replace("*/", "*_/")
+            .replace("/*", "/_*")
+            .build();
 
     public static final String VARIABLE_NAMING_CONVENTION = "variableNamingConvention";
     public static final String PACKAGE_PATH = "packagePath";
@@ -726,13 +733,12 @@ public class PhpClientCodegen extends DefaultCodegen implements CodegenConfig {
 
     @Override
     public String escapeQuotationMark(String input) {
-        // remove ' to avoid code injection
-        return input.replace("'", "");
+        return QUOTATION_MARK_ESCAPER.escape(input);
     }
 
     @Override
     public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+        return UNSAFE_CHARACTERS_ESCAPER.escape(input);
     }
 
 }
@@ -0,0 +1,192 @@
+package io.swagger.codegen.metrics;
+
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timings and counters of a generation run: time spent per phase, per template, per model and per
+ * api group, plus the number of files and bytes produced. Safe to update from several threads.
+ *
+ * Phases that run several times, e.g. processing one model after the other, are summed up. Rendering
+ * phases that run in parallel record the elapsed wall clock time, the per model, api and template
+ * times are summed over all threads.
+ */
+public class GenerationMetrics {
+    public static final String CONFIGURE = "configureGeneratorProperties";
+    public static final String FLATTEN = "flatten";
+    public static final String PROCESS_MODELS = "processModels";
+    public static final String POST_PROCESS_MODELS = "postProcessAllModels";
+    public static final String RENDER_MODELS = "renderModels";
+    public static final String PROCESS_PATHS = "processPaths";
+    public static final String PROCESS_OPERATIONS = "processOperations";
+    public static final String RENDER_APIS = "renderApis";
+    public static final String SUPPORTING_FILES = "supportingFiles";
+
+    private static final String[] PHASES = {CONFIGURE, FLATTEN, PROCESS_MODELS, POST_PROCESS_MODELS, RENDER_MODELS,
+            PROCESS_PATHS, PROCESS_OPERATIONS, RENDER_APIS, SUPPORTING_FILES};
+
+    private final long started = System.nanoTime();
+    private volatile long finished;
+    private final ConcurrentMap<String, AtomicLong> phases = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, TemplateStats> templates = new ConcurrentHashMap<String, TemplateStats>();
+    private final ConcurrentMap<String, AtomicLong> models = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, AtomicLong> apis = new ConcurrentHashMap<String, AtomicLong>();
+    private final AtomicLong filesWritten = new AtomicLong();
+    private final AtomicLong bytesProduced = new AtomicLong();
+
+    /**
+     * Add time spent in a phase.
+     *
+     * @param phase Phase name, e.g. {@link #FLATTEN}
+     * @param startNanos Start time of the phase as returned by {@link System#nanoTime()}
+     */
+    public void addPhase(String phase, long startNanos) {
+        add(phases, phase, System.nanoTime() - startNanos);
+    }
+
+    public void addModel(String modelName, long startNanos) {
+        add(models, modelName, System.nanoTime() - startNanos);
+    }
+
+    public void addApi(String tag, long startNanos) {
+        add(apis, tag, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record the rendering of a template into a file.
+     *
+     * @param templateName Template name
+     * @param startNanos Start time of the rendering as returned by {@link System#nanoTime()}
+     * @param bytes Number of bytes rendered
+     */
+    public void addTemplate(String templateName, long startNanos, long bytes) {
+        long nanos = System.nanoTime() - startNanos;
+        TemplateStats stats = templates.get(templateName);
+        if (stats == null) {
+            TemplateStats existing = templates.putIfAbsent(templateName, stats = new TemplateStats());
+            if (existing != null) {
+                stats = existing;
+            }
+        }
+        stats.count.incrementAndGet();
+        stats.nanos.addAndGet(nanos);
+        stats.bytes.addAndGet(bytes);
+    }
+
+    /**
+     * Record a produced file.
+     *
+     * @param bytes Size of the file content
+     * @param written false if writing the file was skipped because its content did not change
+     */
+    public void addFile(long bytes, boolean written) {
+        bytesProduced.addAndGet(bytes);
+        if (written) {
+            filesWritten.incrementAndGet();
+        }
+    }
+
+    /**
+     * Mark the end of the run.
+     */
+    public void finish() {
+        finished = System.nanoTime();
+    }
+
+    public long getFilesWritten() {
+        return filesWritten.get();
+    }
+
+    public long getBytesProduced() {
+        return bytesProduced.get();
+    }
+
+    /**
+     * @param phase Phase name
+     * @return time spent in the phase in milliseconds, 0 if the phase did not run
+     */
+    public double getPhaseMillis(String phase) {
+        AtomicLong nanos = phases.get(phase);
+        return nanos == null ? 0 : millis(nanos.get());
+    }
+
+    /**
+     * @return the report as nested maps, in the structure of the JSON report
+     */
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<String, Object>();
+        report.put("totalMillis", millis((finished != 0 ? finished : System.nanoTime()) - started));
+        report.put("filesWritten", filesWritten.get());
+        report.put("bytesProduced", bytesProduced.get());
+        // known phases in pipeline order, followed by any others
+        Map<String, Double> phaseReport = new LinkedHashMap<String, Double>();
+        for (String phase : PHASES) {
+            if (phases.containsKey(phase)) {
+                phaseReport.put(phase, getPhaseMillis(phase));
+            }
+        }
+        phaseReport.putAll(toMillis(phases));
+        report.put("phases", phaseReport);
+
+        Map<String, Object> templateReport = new TreeMap<String, Object>();
+        for (Map.Entry<String, TemplateStats> entry : templates.entrySet()) {
+            TemplateStats stats = entry.getValue();
+            Map<String, Object> values = new LinkedHashMap<String, Object>();
+            values.put("count", stats.count.get());
+            values.put("millis", millis(stats.nanos.get()));
+            values.put("bytes", stats.bytes.get());
+            templateReport.put(entry.getKey(), values);
+        }
+        report.put("templates", templateReport);
+        report.put("models", toMillis(models));
+        report.put("apis", toMillis(apis));
+        return report;
+    }
+
+    public String toJson() {
+        return Json.pretty(toReport());
+    }
+
+    public void writeReport(File file) throws IOException {
+        FileUtils.writeStringToFile(file, toJson(), StandardCharsets.UTF_8);
+    }
+
+    private static void add(ConcurrentMap<String, AtomicLong> map, String key, long nanos) {
+        AtomicLong value = map.get(key);
+        if (value == null) {
+            AtomicLong existing = map.putIfAbsent(key, value = new AtomicLong());
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        value.addAndGet(nanos);
+    }
+
+    private static Map<String, Double> toMillis(Map<String, AtomicLong> map) {
+        Map<String, Double> result = new TreeMap<String, Double>();
+        for (Map.Entry<String, AtomicLong> entry : map.entrySet()) {
+            result.put(entry.getKey(), millis(entry.getValue().get()));
+        }
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private static final class TemplateStats {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong nanos = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+    }
+}
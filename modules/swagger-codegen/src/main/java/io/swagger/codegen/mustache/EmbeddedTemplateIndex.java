@@ -0,0 +1,103 @@
+package io.swagger.codegen.mustache;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Index of the template resources below an embedded template folder, built once by listing the
+ * jar files and class path folders containing it. Lookups then need no class loader access.
+ */
+public class EmbeddedTemplateIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedTemplateIndex.class);
+
+    private final Set<String> resources;
+
+    private EmbeddedTemplateIndex(Set<String> resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * List the resources below the given folder.
+     *
+     * @param classLoader Class loader providing the templates
+     * @param templateDir Resource folder, with '/' as separator
+     * @return the index, or null if the folder cannot be listed and lookups must go to the class loader
+     */
+    public static EmbeddedTemplateIndex build(ClassLoader classLoader, String templateDir) {
+        String dir = templateDir.replaceAll("^/+|/+$", "");
+        Set<String> resources = new HashSet<String>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(dir);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    addFolder(resources, dir, Paths.get(url.toURI()));
+                } else if ("jar".equals(url.getProtocol())) {
+                    addJar(resources, dir, url);
+                } else {
+                    return null;
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.debug("Could not index embedded templates in " + dir + ": " + e.getMessage());
+            return null;
+        }
+        return new EmbeddedTemplateIndex(resources);
+    }
+
+    /**
+     * @param resourcePath Resource path, with '/' as separator
+     * @return true if the resource exists
+     */
+    public boolean contains(String resourcePath) {
+        return resources.contains(resourcePath.replaceAll("^/+", ""));
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    private static void addFolder(Set<String> resources, String dir, Path folder) {
+        Iterator<File> files = FileUtils.iterateFiles(folder.toFile(), null, true);
+        while (files.hasNext()) {
+            Path relative = folder.relativize(files.next().toPath());
+            resources.add(dir + "/" + relative.toString().replace(File.separatorChar, '/'));
+        }
+    }
+
+    private static void addJar(Set<String> resources, String dir, URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            throw new IOException("Unsupported url " + url);
+        }
+        // the jar file is shared with the class loader, so it must not be closed here
+        JarFile jar = ((JarURLConnection) connection).getJarFile();
+        String prefix = dir + "/";
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                resources.add(entry.getName());
+            }
+        }
+    }
+}
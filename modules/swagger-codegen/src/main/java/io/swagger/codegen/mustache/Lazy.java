@@ -0,0 +1,51 @@
+package io.swagger.codegen.mustache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A template value which is only computed when a template reads it, e.g. the serialized spec of a supporting file
+ * that may be ignored or not part of the templates at all.
+ *
+ * Templates see the computed value instead of the holder, see {@link TemplateCollector}. The value is computed at
+ * most once, also when the same data is rendered by several templates at the same time.
+ */
+public class Lazy<T> {
+
+    private Callable<T> supplier;
+    private T value;
+
+    public Lazy(Callable<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    public static <T> Lazy<T> of(Callable<T> supplier) {
+        return new Lazy<T>(supplier);
+    }
+
+    /**
+     * Get the value, computing it on first use.
+     *
+     * @return the value
+     * @throws Exception if the value couldn't be computed, in which case the next call tries again
+     */
+    public synchronized T get() throws Exception {
+        if (supplier != null) {
+            value = supplier.call();
+            supplier = null;
+        }
+        return value;
+    }
+
+    public synchronized boolean isComputed() {
+        return supplier == null;
+    }
+
+    /**
+     * @param value A template value
+     * @return the computed value if the given one is lazy, otherwise the given value
+     * @throws Exception if the value couldn't be computed
+     */
+    public static Object resolve(Object value) throws Exception {
+        return value instanceof Lazy ? ((Lazy<?>) value).get() : value;
+    }
+}
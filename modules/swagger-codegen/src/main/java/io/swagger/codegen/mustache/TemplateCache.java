@@ -0,0 +1,101 @@
+package io.swagger.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds compiled templates for the duration of a generation run, so that a template used for
+ * every model, api or doc file is only read and compiled once.
+ *
+ * Entries are keyed by the resolved template path and the compiler instance that produced them.
+ * Partials ({{>name}}) are loaded lazily by JMustache on first execution and kept on the compiled
+ * template, so they are shared along with it.
+ */
+public class TemplateCache {
+
+    /**
+     * Reads the raw template text for a resolved template path.
+     */
+    public interface TemplateSource {
+        String read(String templateFile);
+    }
+
+    private final ConcurrentMap<Key, Template> templates = new ConcurrentHashMap<Key, Template>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Get the compiled template for the given path, compiling it with the given compiler on first use.
+     *
+     * @param compiler Compiler used to compile the template
+     * @param templateFile Resolved template file path
+     * @param source Source used to read the template text on a cache miss
+     * @return compiled template
+     */
+    public Template get(Mustache.Compiler compiler, String templateFile, TemplateSource source) {
+        Key key = new Key(compiler, templateFile);
+        Template template = templates.get(key);
+        if (template != null) {
+            hits.incrementAndGet();
+            return template;
+        }
+        misses.incrementAndGet();
+        template = compiler.compile(source.read(templateFile));
+        Template existing = templates.putIfAbsent(key, template);
+        return existing != null ? existing : template;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateCache{templates=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+
+    private static final class Key {
+        private final Mustache.Compiler compiler;
+        private final String templateFile;
+
+        Key(Mustache.Compiler compiler, String templateFile) {
+            this.compiler = compiler;
+            this.templateFile = templateFile;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return compiler == other.compiler && templateFile.equals(other.templateFile);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(compiler) + templateFile.hashCode();
+        }
+    }
+}
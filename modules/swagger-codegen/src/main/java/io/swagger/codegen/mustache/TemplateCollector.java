@@ -0,0 +1,45 @@
+package io.swagger.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Collector of the template compiler of a generation, which resolves {@link Lazy} values when a template reads them.
+ *
+ * Looking up variables, iterating over lists and caching the fetchers are left to the collector it wraps, so
+ * customizations made through {@link io.swagger.codegen.CodegenConfig#processCompiler} are kept.
+ */
+public class TemplateCollector implements Mustache.Collector {
+
+    private final Mustache.Collector delegate;
+
+    public TemplateCollector(Mustache.Collector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Iterator<?> toIterator(Object value) {
+        return delegate.toIterator(value);
+    }
+
+    @Override
+    public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+        final Mustache.VariableFetcher fetcher = delegate.createFetcher(ctx, name);
+        if (fetcher == null) {
+            return null;
+        }
+        return new Mustache.VariableFetcher() {
+            @Override
+            public Object get(Object ctx, String name) throws Exception {
+                return Lazy.resolve(fetcher.get(ctx, name));
+            }
+        };
+    }
+
+    @Override
+    public <K, V> Map<K, V> createFetcherCache() {
+        return delegate.createFetcherCache();
+    }
+}
@@ -0,0 +1,171 @@
+package io.swagger.codegen.mustache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Template data of one file, layered over data shared by all files, e.g. the additional properties of the generator.
+ *
+ * Lookups fall through to the shared data for keys the file doesn't have, so the shared entries aren't copied into
+ * the data of every model and api. Changes only affect the file's own entries, a removed shared key is hidden. Both
+ * JMustache and generator code see an ordinary map.
+ */
+public class TemplateContext extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> entries = new HashMap<String, Object>();
+    private final Map<String, Object> parent;
+    // keys of the parent removed from this context
+    private Set<Object> removed;
+
+    /**
+     * @param parent Shared data, which is read but never changed through this context
+     */
+    public TemplateContext(Map<String, Object> parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return a context with the same own entries over the same parent
+     */
+    public TemplateContext copy() {
+        TemplateContext copy = new TemplateContext(parent);
+        copy.entries.putAll(entries);
+        if (removed != null) {
+            copy.removed = new HashSet<Object>(removed);
+        }
+        return copy;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = entries.get(key);
+        if (value != null || entries.containsKey(key)) {
+            return value;
+        }
+        return isRemoved(key) ? null : parent.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key) || (!isRemoved(key) && parent.containsKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        if (removed != null) {
+            removed.remove(key);
+        }
+        entries.put(key, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        entries.remove(key);
+        if (parent.containsKey(key)) {
+            if (removed == null) {
+                removed = new HashSet<Object>();
+            }
+            removed.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty() && !entrySet().iterator().hasNext();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                int size = entries.size();
+                for (String key : parent.keySet()) {
+                    if (!entries.containsKey(key) && !isRemoved(key)) {
+                        size++;
+                    }
+                }
+                return size;
+            }
+        };
+    }
+
+    private boolean isRemoved(Object key) {
+        return removed != null && removed.contains(key);
+    }
+
+    /**
+     * Iterates over the own entries, then over the entries of the parent which are neither overridden nor removed.
+     */
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Iterator<String> own = new HashSet<String>(entries.keySet()).iterator();
+        private final Iterator<String> shared = parent.keySet().iterator();
+        private String next;
+        private String current;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (own.hasNext()) {
+                next = own.next();
+                return true;
+            }
+            while (shared.hasNext()) {
+                String key = shared.next();
+                if (!entries.containsKey(key) && !isRemoved(key)) {
+                    next = key;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = null;
+            return new ContextEntry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            TemplateContext.this.remove(current);
+            current = null;
+        }
+    }
+
+    private class ContextEntry extends SimpleEntry<String, Object> {
+        ContextEntry(String key) {
+            super(key, get(key));
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.swagger.codegen.naming;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Results of a naming function by input, for the names a generator computes over and over again, e.g. the
+ * sanitized names of properties that appear in many models. Once the cache holds its maximum number of names,
+ * further names are computed but not added.
+ */
+public class NameCache {
+    public static final int DEFAULT_MAX_SIZE = 50000;
+
+    private final ConcurrentMap<String, String> names = new ConcurrentHashMap<String, String>();
+    private final int maxSize;
+
+    public NameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public NameCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param name Input of the naming function
+     * @return the cached result, null if there is none
+     */
+    public String get(String name) {
+        return names.get(name);
+    }
+
+    /**
+     * @param name Input of the naming function
+     * @param result Result of the naming function
+     * @return the result
+     */
+    public String put(String name, String result) {
+        if (names.size() < maxSize) {
+            names.put(name, result);
+        }
+        return result;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public void clear() {
+        names.clear();
+    }
+}
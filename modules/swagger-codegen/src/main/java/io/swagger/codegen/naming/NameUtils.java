@@ -0,0 +1,420 @@
+package io.swagger.codegen.naming;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Naming functions used by the generators, implemented by scanning the characters once instead of with regular
+ * expressions. The results are the same as those of the regular expression based implementations DefaultCodegen
+ * used before, see NameUtilsTest.
+ */
+public class NameUtils {
+
+    private static final Pattern SLASH = Pattern.compile("\\/(.?)");
+    private static final Pattern CLASS_NAME = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern UNDERSCORE = Pattern.compile("(_)(.)");
+    private static final Pattern HYPHEN = Pattern.compile("(-)(.)");
+
+    // compiled split patterns and, for patterns that are a plain character class, the characters of the class
+    private static final Map<String, Object> NON_NAME_ELEMENTS = new ConcurrentHashMap<String, Object>();
+
+    /**
+     * Camelize a name (parameter, property, method, etc), e.g. "some_name/other-name" to "SomeName.OtherName"
+     * without the dot.
+     *
+     * @param word Name to camelize
+     * @param lowercaseFirstLetter lower case for first letter if set to true
+     * @return camelized name
+     */
+    public static String camelize(String word, boolean lowercaseFirstLetter) {
+        if (!isPlain(word)) {
+            return regexCamelize(word, lowercaseFirstLetter);
+        }
+        int length = word.length();
+
+        // slashes are dots, the dots are removed and the character after each of them is upper cased,
+        // then the first word character is upper cased
+        StringBuilder sb = new StringBuilder(length);
+        boolean partStart = true;
+        boolean classNameDone = false;
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (c == '.' || c == '/') {
+                partStart = true;
+                continue;
+            }
+            if (partStart) {
+                c = Character.toUpperCase(c);
+                partStart = false;
+            }
+            if (!classNameDone && isAsciiWordChar(c)) {
+                c = upperCaseAscii(c);
+                classNameDone = true;
+            }
+            sb.append(c);
+        }
+
+        // remove underscores, upper casing the following character
+        String result = removeSeparator(sb, '_');
+        // remove hyphens, upper casing the following character
+        result = removeSeparator(result, '-');
+
+        if (lowercaseFirstLetter && result.length() > 0) {
+            result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        }
+        return result;
+    }
+
+    /**
+     * Underscore a name, e.g. "SomeName" to "some_name".
+     *
+     * @param word Name to underscore
+     * @return underscored name
+     */
+    public static String underscore(String word) {
+        int length = word.length();
+        StringBuilder sb = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            char c = word.charAt(i);
+            if (isAsciiUpper(c) && i > 0) {
+                char previous = word.charAt(i - 1);
+                if (isAsciiLower(previous) || isAsciiDigit(previous)) {
+                    // "aB" => "a_B"
+                    sb.append('_');
+                } else if (isAsciiUpper(previous) && i + 1 < length && isAsciiLower(word.charAt(i + 1))) {
+                    // "ABc" => "A_Bc"
+                    sb.append('_');
+                }
+            }
+            switch (c) {
+                case '.':
+                    sb.append('/');
+                    break;
+                case '$':
+                    sb.append("__");
+                    break;
+                case '-':
+                case ' ':
+                    sb.append('_');
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase();
+    }
+
+    /**
+     * Dashize a name, e.g. "SomeName" to "some-name".
+     *
+     * @param word Name to dashize
+     * @return dashized name
+     */
+    public static String dashize(String word) {
+        // an underscored name contains no spaces
+        return underscore(word).replace('_', '-');
+    }
+
+    /**
+     * Sanitize a name (parameter, property, method, etc): "input[]" to "input", "input[a][b]", "input(a)(b)",
+     * "input.a.b", "input-a-b" and "input a b" to "input_a_b" and all other non word characters are removed.
+     *
+     * @param name Name to sanitize, not null
+     * @param allowUnicodeIdentifiers keep unicode letters, digits and the like
+     * @return sanitized name
+     */
+    public static String sanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        // if the name is just '$', map it to 'value' for the time being.
+        if ("$".equals(name)) {
+            return "value";
+        }
+        int length = name.length();
+        StringBuilder sb = new StringBuilder(length);
+        int i = 0;
+        while (i < length) {
+            char c = name.charAt(i);
+            switch (c) {
+                case '[':
+                    if (i + 1 < length && name.charAt(i + 1) == ']') {
+                        i += 2;
+                        continue;
+                    }
+                    sb.append('_');
+                    break;
+                case '(':
+                case '.':
+                case '-':
+                case ' ':
+                    sb.append('_');
+                    break;
+                case ']':
+                case ')':
+                    break;
+                default:
+                    if (allowUnicodeIdentifiers && !isAscii(c)) {
+                        int codePoint = name.codePointAt(i);
+                        if (isUnicodeWordChar(codePoint)) {
+                            sb.appendCodePoint(codePoint);
+                        }
+                        i += Character.charCount(codePoint);
+                        continue;
+                    }
+                    if (isAsciiWordChar(c)) {
+                        sb.append(c);
+                    }
+            }
+            i++;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Remove the characters matching a pattern from a name and camelize the rest, e.g. "some-name:part" to
+     * "someNamePart".
+     *
+     * @param name Name to camelize
+     * @param nonNameElementPattern Regular expression of the characters that are not part of a name
+     * @return camelized name, starting with a lower case letter
+     */
+    public static String removeNonNameElementToCamelCase(String name, String nonNameElementPattern) {
+        Object separators = NON_NAME_ELEMENTS.get(nonNameElementPattern);
+        if (separators == null) {
+            separators = compileNonNameElements(nonNameElementPattern);
+            NON_NAME_ELEMENTS.put(nonNameElementPattern, separators);
+        }
+
+        StringBuilder sb = new StringBuilder(name.length());
+        if (separators instanceof Pattern) {
+            for (String part : ((Pattern) separators).split(name)) {
+                sb.append(StringUtils.capitalize(part));
+            }
+        } else {
+            String chars = (String) separators;
+            int start = 0;
+            int length = name.length();
+            for (int i = 0; i <= length; i++) {
+                if (i == length || chars.indexOf(name.charAt(i)) >= 0) {
+                    if (i > start) {
+                        sb.append(StringUtils.capitalize(name.substring(start, i)));
+                    }
+                    start = i + 1;
+                }
+            }
+        }
+        String result = sb.toString();
+        if (result.length() > 0) {
+            result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        }
+        return result;
+    }
+
+    /**
+     * @return the characters of a character class like "[-_:;#]", or the compiled pattern for any other pattern
+     */
+    private static Object compileNonNameElements(String pattern) {
+        if (pattern.length() > 2 && pattern.charAt(0) == '[' && pattern.charAt(pattern.length() - 1) == ']') {
+            String chars = pattern.substring(1, pattern.length() - 1);
+            boolean plain = chars.charAt(0) != '^';
+            for (int i = 0; i < chars.length() && plain; i++) {
+                char c = chars.charAt(i);
+                plain = c != '\\' && c != '[' && c != ']' && c != '&'
+                        && (c != '-' || i == 0 || i == chars.length() - 1);
+            }
+            if (plain) {
+                return chars;
+            }
+        }
+        return Pattern.compile(pattern);
+    }
+
+    /**
+     * Remove a separator character followed by another character, replacing the latter by its upper case. A
+     * separator at the end is kept.
+     */
+    private static String removeSeparator(CharSequence word, char separator) {
+        int length = word.length();
+        int i = 0;
+        while (i < length && word.charAt(i) != separator) {
+            i++;
+        }
+        if (i >= length - 1) {
+            return word.toString();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(word, 0, i);
+        while (i < length) {
+            char c = word.charAt(i);
+            if (c != separator || i + 1 == length) {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            int codePoint = Character.codePointAt(word, i + 1);
+            int charCount = Character.charCount(codePoint);
+            if (codePoint < 128) {
+                if (codePoint == separator) {
+                    // the next separator may be followed by a character itself
+                    i++;
+                    continue;
+                }
+                sb.append(upperCaseAscii((char) codePoint));
+            } else {
+                sb.append(new String(Character.toChars(codePoint)).toUpperCase());
+            }
+            i += 1 + charCount;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return false for names the regular expressions would treat in a special way: backslashes and a "$" that
+     * follows a slash or hyphen end up in a replacement string, "." does not match line terminators
+     */
+    private static boolean isPlain(String word) {
+        boolean dollar = false;
+        boolean slashOrHyphen = false;
+        int length = word.length();
+        for (int i = 0; i < length; i++) {
+            switch (word.charAt(i)) {
+                case '\\':
+                case '\n':
+                case '\r':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    return false;
+                case '$':
+                    dollar = true;
+                    break;
+                case '/':
+                case '-':
+                    slashOrHyphen = true;
+                    break;
+                default:
+            }
+        }
+        return !(dollar && slashOrHyphen);
+    }
+
+    /**
+     * Upper case like String.toUpperCase, which depends on the default locale for "i".
+     */
+    private static char upperCaseAscii(char c) {
+        if (c >= 'a' && c <= 'z' && c != 'i') {
+            return (char) (c - ('a' - 'A'));
+        }
+        if (c < 128 && c != 'i') {
+            return c;
+        }
+        String upperCase = String.valueOf(c).toUpperCase();
+        return upperCase.length() == 1 ? upperCase.charAt(0) : c;
+    }
+
+    private static boolean isAscii(char c) {
+        return c < 128;
+    }
+
+    private static boolean isAsciiUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * \w of java.util.regex
+     */
+    private static boolean isAsciiWordChar(char c) {
+        return isAsciiLower(c) || isAsciiUpper(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    /**
+     * \w of java.util.regex with UNICODE_CHARACTER_CLASS
+     */
+    private static boolean isUnicodeWordChar(int codePoint) {
+        if (Character.isAlphabetic(codePoint) || codePoint == 0x200C || codePoint == 0x200D) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.DECIMAL_DIGIT_NUMBER:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The regular expression based camelize, for the names {@link #isPlain(String)} rejects.
+     */
+    static String regexCamelize(String word, boolean lowercaseFirstLetter) {
+        // Replace all slashes with dots (package separator)
+        Matcher m = SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
+            m = SLASH.matcher(word);
+        }
+
+        // case out dots
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = SLASH.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
+            m = SLASH.matcher(word);
+        }
+
+        // Uppercase the class name.
+        m = CLASS_NAME.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        m = UNDERSCORE.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = UNDERSCORE.matcher(word);
+        }
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        m = HYPHEN.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = HYPHEN.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+
+        return word;
+    }
+}
@@ -0,0 +1,72 @@
+package io.swagger.codegen.output;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stream for the content of a file of an {@link OutputSink}. The content only replaces the file once the stream is
+ * closed, an aborted stream is discarded instead and leaves the file as it was, e.g. when rendering a template failed
+ * halfway.
+ */
+public abstract class AbortableOutputStream extends FilterOutputStream {
+    private boolean aborted;
+    private boolean closed;
+
+    /**
+     * @param out Stream the pending content is written to
+     */
+    protected AbortableOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+    }
+
+    /**
+     * Discard the content written so far and close the stream.
+     *
+     * @throws IOException if the pending content cannot be dropped
+     */
+    public void abort() throws IOException {
+        aborted = true;
+        close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean committed = false;
+        try {
+            super.close();
+            if (!aborted) {
+                commit();
+                committed = true;
+            }
+        } finally {
+            if (!committed) {
+                discard();
+            }
+        }
+    }
+
+    /**
+     * Make the written content the content of the file, called once the stream is closed.
+     *
+     * @throws IOException if the file cannot be replaced
+     */
+    protected abstract void commit() throws IOException;
+
+    /**
+     * Drop the written content, called instead of {@link #commit()} for an aborted stream and after a failed commit.
+     *
+     * @throws IOException if the pending content cannot be dropped
+     */
+    protected void discard() throws IOException {
+    }
+}
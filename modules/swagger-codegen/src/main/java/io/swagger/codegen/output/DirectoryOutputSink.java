@@ -0,0 +1,57 @@
+package io.swagger.codegen.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the generated files to the local file system, creating missing folders on the way.
+ *
+ * The content is written next to the file and moved over it once the stream is closed, so a file is never left
+ * half written.
+ */
+public class DirectoryOutputSink implements OutputSink {
+    private static final AtomicLong pendingFiles = new AtomicLong();
+
+    @Override
+    public boolean exists(File file) {
+        return file.exists();
+    }
+
+    @Override
+    public AbortableOutputStream openStream(final File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        // created like the file itself would be, so a new file gets the default permissions
+        final File pending = new File(parent, "." + file.getName() + "." + pendingFiles.incrementAndGet() + ".swagger-codegen-tmp");
+        return new AbortableOutputStream(Files.newOutputStream(pending.toPath(), StandardOpenOption.CREATE_NEW)) {
+            @Override
+            protected void commit() throws IOException {
+                replace(pending.toPath(), file.toPath());
+            }
+
+            @Override
+            protected void discard() {
+                pending.delete();
+            }
+        };
+    }
+
+    private static void replace(Path pending, Path target) throws IOException {
+        if (Files.exists(target)) {
+            // keep the permissions of the replaced file, e.g. of executable scripts
+            PosixFileAttributeView attributes = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            if (attributes != null) {
+                Files.setPosixFilePermissions(pending, attributes.readAttributes().permissions());
+            }
+        }
+        Files.move(pending, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,87 @@
+package io.swagger.codegen.output;
+
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Files a dry run would have written, in generation order. Sizes of rendered files are estimated from
+ * the template size and the number of models, properties and operations in the template data, sizes of
+ * copied and fixed content files are exact.
+ */
+public class GenerationPlan {
+    private final List<PlannedFile> files = new ArrayList<PlannedFile>();
+
+    public synchronized void add(File file, String templateName, long estimatedBytes) {
+        files.add(new PlannedFile(file, templateName, estimatedBytes));
+    }
+
+    public synchronized List<PlannedFile> getFiles() {
+        return Collections.unmodifiableList(new ArrayList<PlannedFile>(files));
+    }
+
+    public synchronized long getEstimatedBytes() {
+        long bytes = 0;
+        for (PlannedFile file : files) {
+            bytes += file.getEstimatedBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the plan as JSON, with the files in generation order
+     */
+    public String toJson() {
+        List<Map<String, Object>> entries = new ArrayList<Map<String, Object>>();
+        for (PlannedFile file : getFiles()) {
+            Map<String, Object> entry = new LinkedHashMap<String, Object>();
+            entry.put("path", file.getFile().getPath());
+            if (file.getTemplateName() != null) {
+                entry.put("template", file.getTemplateName());
+            }
+            entry.put("estimatedBytes", file.getEstimatedBytes());
+            entries.add(entry);
+        }
+        Map<String, Object> plan = new LinkedHashMap<String, Object>();
+        plan.put("files", entries);
+        plan.put("estimatedBytes", getEstimatedBytes());
+        return Json.pretty(plan);
+    }
+
+    public static class PlannedFile {
+        private final File file;
+        private final String templateName;
+        private final long estimatedBytes;
+
+        PlannedFile(File file, String templateName, long estimatedBytes) {
+            this.file = file;
+            this.templateName = templateName;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * @return the template the file is rendered from, null for copied and fixed content files
+         */
+        public String getTemplateName() {
+            return templateName;
+        }
+
+        public long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return file.getPath();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.swagger.codegen.output;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Computes the {@link OutputManifest} hash and the size of everything written through it, so that streamed
+ * output can be checked against the manifest without holding it in memory.
+ */
+public class HashingOutputStream extends FilterOutputStream {
+    private long crc = -1L;
+    private long count;
+
+    public HashingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        crc = OutputManifest.update(crc, b, off, len);
+        count += len;
+        out.write(b, off, len);
+    }
+
+    /**
+     * @return hash of the bytes written so far, see {@link OutputManifest#hash(byte[])}
+     */
+    public long getHash() {
+        return ~crc;
+    }
+
+    /**
+     * @return number of bytes written so far
+     */
+    public long getCount() {
+        return count;
+    }
+}
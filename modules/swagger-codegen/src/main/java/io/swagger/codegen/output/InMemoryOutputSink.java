@@ -0,0 +1,62 @@
+package io.swagger.codegen.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the generated files in memory, keyed by their path relative to the output folder with
+ * '/' as separator. Useful for tests and for embedding the generator.
+ */
+public class InMemoryOutputSink implements OutputSink {
+    private final Path root;
+    private final ConcurrentMap<String, byte[]> files = new ConcurrentHashMap<String, byte[]>();
+
+    /**
+     * @param root Output folder the generated paths are relative to
+     */
+    public InMemoryOutputSink(File root) {
+        this.root = OutputPaths.normalize(root);
+    }
+
+    @Override
+    public boolean exists(File file) {
+        return files.containsKey(OutputPaths.relativePath(root, file));
+    }
+
+    @Override
+    public AbortableOutputStream openStream(File file) throws IOException {
+        final String path = OutputPaths.relativePath(root, file);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        return new AbortableOutputStream(content) {
+            @Override
+            protected void commit() {
+                files.put(path, content.toByteArray());
+            }
+        };
+    }
+
+    /**
+     * @param path Path relative to the output folder, e.g. "src/main/java/io/swagger/client/model/Pet.java"
+     * @return the content of the file, or null if it was not generated
+     */
+    public byte[] getContent(String path) {
+        return files.get(path);
+    }
+
+    /**
+     * @return all generated files sorted by path
+     */
+    public Map<String, byte[]> getFiles() {
+        return new TreeMap<String, byte[]>(files);
+    }
+
+    public void clear() {
+        files.clear();
+    }
+}
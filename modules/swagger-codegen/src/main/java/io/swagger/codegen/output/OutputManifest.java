@@ -0,0 +1,221 @@
+package io.swagger.codegen.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records a CRC-64 checksum, the size and the modification time of every file written by a
+ * generation run, so that the next run can skip writing files whose content did not change.
+ *
+ * A file is only considered unchanged if the new content hashes the same as the recorded content
+ * and the file on disk still has the recorded size and modification time, i.e. it was not edited
+ * since it was generated.
+ *
+ * The manifest is stored as a plain text file with one line per file:
+ * <pre>
+ * &lt;crc64 hex&gt; &lt;size&gt; &lt;last modified&gt; &lt;path relative to the output folder&gt;
+ * </pre>
+ */
+public class OutputManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputManifest.class);
+
+    public static final String MANIFEST_FILENAME = "MANIFEST";
+
+    private static final long[] CRC64_TABLE = new long[256];
+
+    static {
+        // CRC-64/XZ (ECMA-182 polynomial, reflected)
+        final long poly = 0xC96C5795D7870F42L;
+        for (int i = 0; i < 256; i++) {
+            long crc = i;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ poly : crc >>> 1;
+            }
+            CRC64_TABLE[i] = crc;
+        }
+    }
+
+    private final File manifestFile;
+    private final Path root;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    public OutputManifest(File root, File manifestFile) {
+        this.root = OutputPaths.normalize(root);
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Load the manifest stored under {@code <outputFolder>/.swagger-codegen/MANIFEST}, or create an
+     * empty one if there is none yet.
+     *
+     * @param outputFolder Output folder of the generation run
+     * @return the manifest
+     */
+    public static OutputManifest load(String outputFolder) {
+        File root = new File(outputFolder);
+        File manifestFile = new File(new File(root, ".swagger-codegen"), MANIFEST_FILENAME);
+        OutputManifest manifest = new OutputManifest(root, manifestFile);
+        if (manifestFile.isFile()) {
+            manifest.read();
+        }
+        return manifest;
+    }
+
+    public static long hash(byte[] bytes) {
+        return ~update(-1L, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Continue a CRC-64 computation, see {@link HashingOutputStream}.
+     *
+     * @param crc Running (not yet inverted) checksum, {@code -1L} initially
+     * @param bytes Data
+     * @param off Start offset in the data
+     * @param len Number of bytes
+     * @return the updated running checksum, invert it to get the hash
+     */
+    static long update(long crc, byte[] bytes, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            crc = CRC64_TABLE[(int) ((crc ^ bytes[i]) & 0xff)] ^ (crc >>> 8);
+        }
+        return crc;
+    }
+
+    /**
+     * Check whether the given file already holds content with the given hash.
+     *
+     * @param file Output file
+     * @param hash Hash of the new content, see {@link #hash(byte[])}
+     * @return true if writing the file can be skipped
+     */
+    public boolean isUnchanged(File file, long hash) {
+        Entry entry = entries.get(key(file));
+        if (entry == null || entry.hash != hash || !matches(file, entry)) {
+            return false;
+        }
+        unchanged.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Check whether the given file is still as recorded by a previous run, i.e. whether new content
+     * could turn out to be unchanged. If not, the file will be written in any case.
+     *
+     * @param file Output file
+     * @return true if the file is recorded and was not modified since
+     */
+    public boolean isTracked(File file) {
+        Entry entry = entries.get(key(file));
+        return entry != null && matches(file, entry);
+    }
+
+    /**
+     * Record a file that was just written with content of the given hash.
+     *
+     * @param file Output file
+     * @param hash Hash of the written content, see {@link #hash(byte[])}
+     */
+    public void recordWritten(File file, long hash) {
+        entries.put(key(file), new Entry(hash, file.length(), file.lastModified()));
+        written.incrementAndGet();
+    }
+
+    public int getWritten() {
+        return written.get();
+    }
+
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+
+    public File getManifestFile() {
+        return manifestFile;
+    }
+
+    /**
+     * Write the manifest back to disk, sorted by path.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public void save() throws IOException {
+        File parent = manifestFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Map<String, Entry> sorted = new TreeMap<String, Entry>(entries);
+        Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8));
+        try {
+            for (Map.Entry<String, Entry> e : sorted.entrySet()) {
+                Entry entry = e.getValue();
+                out.write(Long.toHexString(entry.hash) + " " + entry.size + " " + entry.lastModified + " " + e.getKey() + "\n");
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private void read() {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(manifestFile), StandardCharsets.UTF_8));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split(" ", 4);
+                    if (parts.length != 4) {
+                        continue;
+                    }
+                    try {
+                        entries.put(parts[3], new Entry(Long.parseUnsignedLong(parts[0], 16), Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Ignoring invalid manifest line: " + line);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read " + manifestFile + ", all files will be written: " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private static boolean matches(File file, Entry entry) {
+        // make sure the file was not changed or removed since it was generated
+        return file.length() == entry.size && file.lastModified() == entry.lastModified;
+    }
+
+    private String key(File file) {
+        return OutputPaths.relativePath(root, file);
+    }
+
+    private static final class Entry {
+        final long hash;
+        final long size;
+        final long lastModified;
+
+        Entry(long hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
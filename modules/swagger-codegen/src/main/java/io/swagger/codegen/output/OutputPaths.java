@@ -0,0 +1,25 @@
+package io.swagger.codegen.output;
+
+import java.io.File;
+import java.nio.file.Path;
+
+final class OutputPaths {
+
+    private OutputPaths() {
+    }
+
+    static Path normalize(File file) {
+        return file.toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * @return path of the file relative to the root if it is below it, with '/' as separator
+     */
+    static String relativePath(Path root, File file) {
+        Path path = normalize(file);
+        if (path.startsWith(root)) {
+            path = root.relativize(path);
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,32 @@
+package io.swagger.codegen.output;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Destination of the generated files.
+ *
+ * Files are still identified by their {@link File} path below the output folder, so the ignore
+ * rules and the overwrite checks of the generator apply the same way to every sink. Implementations
+ * must be thread safe, files may be written from several threads at once.
+ */
+public interface OutputSink {
+
+    /**
+     * Check whether a file was already written to this sink, e.g. to skip overwriting it.
+     *
+     * @param file Output file
+     * @return true if the file exists
+     */
+    boolean exists(File file);
+
+    /**
+     * Open a stream for the content of the given file. The content replaces any previous content once the stream is
+     * closed, an {@link AbortableOutputStream#abort() aborted} stream leaves the file as it was.
+     *
+     * @param file Output file
+     * @return stream to write the content to, to be closed or aborted by the caller
+     * @throws IOException if the file cannot be created
+     */
+    AbortableOutputStream openStream(File file) throws IOException;
+}
@@ -0,0 +1,65 @@
+package io.swagger.codegen.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the generated files into a zip archive, with entry names relative to the output folder.
+ *
+ * Files may be rendered by several threads at once, so the content of a file is collected until its stream is
+ * closed and then written as one entry. An archive cannot replace an entry, writing the same file twice fails.
+ */
+public class ZipOutputSink implements OutputSink, Closeable {
+    private final Path root;
+    private final ZipOutputStream zip;
+    // names of the entries written so far, guarded by the sink
+    private final Set<String> names = new HashSet<String>();
+
+    /**
+     * @param out Stream to write the archive to, closed along with the sink
+     * @param root Output folder the entry names are relative to
+     */
+    public ZipOutputSink(OutputStream out, File root) {
+        this.zip = new ZipOutputStream(out);
+        this.root = OutputPaths.normalize(root);
+    }
+
+    @Override
+    public synchronized boolean exists(File file) {
+        return names.contains(OutputPaths.relativePath(root, file));
+    }
+
+    @Override
+    public AbortableOutputStream openStream(File file) throws IOException {
+        final String name = OutputPaths.relativePath(root, file);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        return new AbortableOutputStream(content) {
+            @Override
+            protected void commit() throws IOException {
+                writeEntry(name, content);
+            }
+        };
+    }
+
+    private synchronized void writeEntry(String name, ByteArrayOutputStream content) throws IOException {
+        if (!names.add(name)) {
+            throw new IOException("File " + name + " was already written to the zip archive, entries cannot be replaced");
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        content.writeTo(zip);
+        zip.closeEntry();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        zip.close();
+    }
+}
@@ -0,0 +1,172 @@
+package io.swagger.codegen.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces strings in a text according to a table of replacements, with the same result as calling
+ * {@link String#replace(CharSequence, CharSequence)} for each replacement in table order. The text is scanned
+ * once: each replacement is a stage that passes its output on to the next one, so the text is never copied in
+ * between. A text without the first character of any target is returned as is.
+ */
+public final class Escaper {
+    private final char[][] targets;
+    private final char[][] replacements;
+    // per target, the length of the longest proper prefix of target[0..n) that is also a suffix of it
+    private final int[][] failures;
+    private final boolean[] asciiFirstChars = new boolean[128];
+    private final String nonAsciiFirstChars;
+
+    private Escaper(List<String[]> table) {
+        int size = table.size();
+        targets = new char[size][];
+        replacements = new char[size][];
+        failures = new int[size][];
+        StringBuilder nonAscii = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            targets[i] = table.get(i)[0].toCharArray();
+            replacements[i] = table.get(i)[1].toCharArray();
+            failures[i] = failureTable(targets[i]);
+            char first = targets[i][0];
+            if (first < 128) {
+                asciiFirstChars[first] = true;
+            } else {
+                nonAscii.append(first);
+            }
+        }
+        nonAsciiFirstChars = nonAscii.toString();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param input Text to escape, may be null
+     * @return the escaped text, the input itself if nothing had to be replaced
+     */
+    public String escape(String input) {
+        if (input == null || targets.length == 0) {
+            return input;
+        }
+        int length = input.length();
+        int start = 0;
+        while (start < length && !isFirstChar(input.charAt(start))) {
+            start++;
+        }
+        if (start == length) {
+            return input;
+        }
+
+        // none of the stages can match in the text before start, so it passes all of them unchanged
+        Run run = new Run(length);
+        run.out.append(input, 0, start);
+        for (int i = start; i < length; i++) {
+            run.feed(0, input.charAt(i));
+        }
+        for (int stage = 0; stage < targets.length; stage++) {
+            run.flush(stage);
+        }
+        return run.replaced == 0 ? input : run.out.toString();
+    }
+
+    private boolean isFirstChar(char c) {
+        return c < 128 ? asciiFirstChars[c] : nonAsciiFirstChars.indexOf(c) >= 0;
+    }
+
+    private static int[] failureTable(char[] target) {
+        int[] failure = new int[target.length + 1];
+        int k = 0;
+        for (int i = 1; i < target.length; i++) {
+            while (k > 0 && target[i] != target[k]) {
+                k = failure[k];
+            }
+            if (target[i] == target[k]) {
+                k++;
+            }
+            failure[i + 1] = k;
+        }
+        return failure;
+    }
+
+    /**
+     * State of one escape call: per stage, the number of characters of its target matched so far.
+     */
+    private final class Run {
+        private final StringBuilder out;
+        private final int[] matched = new int[targets.length];
+        private int replaced;
+
+        private Run(int length) {
+            this.out = new StringBuilder(length + 16);
+        }
+
+        private void feed(int stage, char c) {
+            if (stage == targets.length) {
+                out.append(c);
+                return;
+            }
+            char[] target = targets[stage];
+            while (true) {
+                int state = matched[stage];
+                if (c == target[state]) {
+                    if (state + 1 < target.length) {
+                        matched[stage] = state + 1;
+                        return;
+                    }
+                    // a match, leftmost and not overlapping the previous one like String.replace
+                    matched[stage] = 0;
+                    replaced++;
+                    for (char r : replacements[stage]) {
+                        feed(stage + 1, r);
+                    }
+                    return;
+                }
+                if (state == 0) {
+                    feed(stage + 1, c);
+                    return;
+                }
+                // the characters before the longest border can not be part of a match any more
+                int border = failures[stage][state];
+                for (int i = 0; i < state - border; i++) {
+                    feed(stage + 1, target[i]);
+                }
+                matched[stage] = border;
+            }
+        }
+
+        private void flush(int stage) {
+            int state = matched[stage];
+            matched[stage] = 0;
+            for (int i = 0; i < state; i++) {
+                feed(stage + 1, targets[stage][i]);
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final List<String[]> table = new ArrayList<String[]>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a replacement, applied after the replacements added before.
+         *
+         * @param target Text to replace, not empty
+         * @param replacement Replacement, may be empty to remove the target
+         * @return this builder
+         */
+        public Builder replace(String target, String replacement) {
+            if (target == null || target.isEmpty()) {
+                throw new IllegalArgumentException("Empty escape target");
+            }
+            table.add(new String[]{target, replacement});
+            return this;
+        }
+
+        public Escaper build() {
+            return new Escaper(new ArrayList<String[]>(table));
+        }
+    }
+}
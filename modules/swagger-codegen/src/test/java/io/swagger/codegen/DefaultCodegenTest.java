@@ -1,8 +1,16 @@
 package io.swagger.codegen;
 
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.StringProperty;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class DefaultCodegenTest {
 
     @Test
@@ -33,4 +41,111 @@ public class DefaultCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.FALSE);
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
+
+    @Test
+    public void testUniqueOperationIds() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final Map<String, List<CodegenOperation>> operations = new HashMap<String, List<CodegenOperation>>();
+        for (String operationId : new String[]{"getPet", "getPet", "getPet_0", "getPet", "addPet"}) {
+            codegen.addOperationToGroup("pet", "/pet", null, operation(operationId), operations);
+        }
+        codegen.addOperationToGroup("store", "/store", null, operation("getPet"), operations);
+
+        Assert.assertEquals(operationIds(operations.get("pet")), new String[]{"getPet", "getPet_0", "getPet_0_0", "getPet_1", "addPet"});
+        Assert.assertEquals(operationIds(operations.get("store")), new String[]{"getPet"});
+        Assert.assertEquals(operations.get("pet").get(3).operationIdLowerCase, "getpet_1");
+
+        // operations added to the group without addOperationToGroup are taken into account
+        operations.get("pet").add(operation("getPet_2"));
+        codegen.addOperationToGroup("pet", "/pet", null, operation("getPet"), operations);
+        Assert.assertEquals(operations.get("pet").get(6).operationId, "getPet_3");
+    }
+
+    @Test
+    public void testUniqueOperationIdsInLargeGroup() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        final Map<String, List<CodegenOperation>> operations = new HashMap<String, List<CodegenOperation>>();
+        final int count = 20000;
+        for (int i = 0; i < count; i++) {
+            codegen.addOperationToGroup("gateway", "/gateway", null, operation(i % 2 == 0 ? "call" : "call" + i), operations);
+        }
+
+        final List<CodegenOperation> opList = operations.get("gateway");
+        Assert.assertEquals(opList.size(), count);
+        Assert.assertEquals(opList.get(0).operationId, "call");
+        Assert.assertEquals(opList.get(1).operationId, "call1");
+        Assert.assertEquals(opList.get(2).operationId, "call_0");
+        Assert.assertEquals(opList.get(count - 2).operationId, "call_" + (count / 2 - 2));
+        Assert.assertEquals(opList.get(count - 1).operationId, "call" + (count - 1));
+    }
+
+    @Test
+    public void testMemoizedProperties() throws Exception {
+        final AtomicInteger conversions = new AtomicInteger();
+        final DefaultCodegen codegen = new DefaultCodegen() {
+            @Override
+            public String toDefaultValue(Property p) {
+                conversions.incrementAndGet();
+                return super.toDefaultValue(p);
+            }
+        };
+        final Property tags = statusList("the tags");
+        final CodegenProperty first = codegen.fromProperty("tags", tags);
+        final int converted = conversions.get();
+        final CodegenProperty second = codegen.fromProperty("tags", tags);
+        Assert.assertEquals(conversions.get(), converted);
+        Assert.assertEquals(second, first);
+        Assert.assertNotSame(second, first);
+        Assert.assertNotSame(second.items, first.items);
+        Assert.assertEquals(second.items.datatype, first.items.datatype);
+
+        // callers may change the properties they get
+        first.description = "changed";
+        first.items.datatype = "changed";
+        first.items._enum.add("changed");
+        final CodegenProperty third = codegen.fromProperty("tags", tags);
+        Assert.assertEquals(third, second);
+        Assert.assertEquals(third.items.datatype, second.items.datatype);
+
+        Assert.assertEquals(codegen.fromProperty("tags", statusList("other tags")).description, "other tags");
+        Assert.assertEquals(codegen.fromProperty("labels", tags).baseName, "labels");
+        Assert.assertEquals(codegen.fromProperty("tags", statusList("the tags")), second);
+
+        codegen.setMemoizeProperties(false);
+        Assert.assertEquals(codegen.fromProperty("tags", tags), second);
+    }
+
+    @Test
+    public void testUnusedTemplateFields() throws Exception {
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.unusedTemplateFields.add("examples");
+        Assert.assertFalse(codegen.isTemplateFieldUsed("examples"));
+        Assert.assertTrue(codegen.isTemplateFieldUsed("requestBodyExamples"));
+
+        // custom templates may read any field
+        codegen.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, "templates");
+        Assert.assertTrue(codegen.isTemplateFieldUsed("examples"));
+    }
+
+    private static Property statusList(String description) {
+        final StringProperty status = new StringProperty();
+        status._enum("available")._enum("sold");
+        final ArrayProperty property = new ArrayProperty(status);
+        property.setDescription(description);
+        return property;
+    }
+
+    private static CodegenOperation operation(String operationId) {
+        final CodegenOperation operation = new CodegenOperation();
+        operation.operationId = operationId;
+        return operation;
+    }
+
+    private static String[] operationIds(List<CodegenOperation> opList) {
+        final String[] operationIds = new String[opList.size()];
+        for (int i = 0; i < operationIds.length; i++) {
+            operationIds[i] = opList.get(i).operationId;
+        }
+        return operationIds;
+    }
 }
@@ -1,12 +1,28 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
 import io.swagger.codegen.config.CodegenConfigurator;
 import io.swagger.codegen.languages.JavaClientCodegen;
 import io.swagger.codegen.languages.SpringCodegen;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.codegen.output.AbortableOutputStream;
+import io.swagger.codegen.output.DirectoryOutputSink;
+import io.swagger.codegen.output.GenerationPlan;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.codegen.output.OutputSink;
+import io.swagger.codegen.output.ZipOutputSink;
+import io.swagger.models.ComposedModel;
 import io.swagger.models.ExternalDocs;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
 import io.swagger.models.Swagger;
 import io.swagger.models.Tag;
+import io.swagger.models.properties.StringProperty;
 import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.rules.TemporaryFolder;
@@ -19,6 +35,12 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static io.swagger.codegen.CodegenConstants.TEMPLATE_DIR;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -785,6 +807,391 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingMatchesSerial() throws Exception {
+        final File serialOutput = new File(folder.getRoot(), "serial");
+        final File parallelOutput = new File(folder.getRoot(), "parallel");
+
+        List<File> serialFiles = generatePetstore(serialOutput, false);
+        List<File> parallelFiles = generatePetstore(parallelOutput, true);
+
+        assertEquals(parallelFiles.size(), serialFiles.size());
+        for (int i = 0; i < serialFiles.size(); i++) {
+            String serialPath = serialOutput.toURI().relativize(serialFiles.get(i).toURI()).getPath();
+            String parallelPath = parallelOutput.toURI().relativize(parallelFiles.get(i).toURI()).getPath();
+            assertEquals(parallelPath, serialPath);
+            assertEquals(FileUtils.readFileToString(parallelFiles.get(i), StandardCharsets.UTF_8),
+                    FileUtils.readFileToString(serialFiles.get(i), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testUnchangedFilesAreNotRewritten() throws Exception {
+        final File output = folder.getRoot();
+        generatePetstore(output, false);
+
+        final File order = new File(output, MODEL_ORDER_FILE);
+        final long lastModified = order.lastModified();
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(clientOptInput).generate();
+
+        assertEquals(generator.outputManifest.getWritten(), 0);
+        assertTrue(generator.outputManifest.getUnchanged() > 0);
+        assertEquals(order.lastModified(), lastModified);
+        assertTrue(new File(output, ".swagger-codegen/MANIFEST").exists());
+    }
+
+    @Test
+    public void testInMemoryOutput() throws Exception {
+        final File directoryOutput = new File(folder.getRoot(), "directory");
+        final File memoryOutput = new File(folder.getRoot(), "memory");
+        List<File> files = generatePetstore(directoryOutput, false);
+
+        InMemoryOutputSink sink = new InMemoryOutputSink(memoryOutput);
+        List<File> memoryFiles = generatePetstore(memoryOutput, true, sink);
+
+        assertFalse(memoryOutput.exists());
+        assertEquals(memoryFiles.size(), files.size());
+        assertEquals(sink.getFiles().size(), files.size());
+        for (File file : files) {
+            String path = directoryOutput.toURI().relativize(file.toURI()).getPath();
+            assertEquals(new String(sink.getContent(path), StandardCharsets.UTF_8),
+                    FileUtils.readFileToString(file, StandardCharsets.UTF_8), path);
+        }
+    }
+
+    @Test
+    public void testFailedRenderKeepsOutput() throws Exception {
+        final File existing = new File(folder.getRoot(), "existing.txt");
+        final File missing = new File(folder.getRoot(), "folder/missing.txt");
+        FileUtils.writeStringToFile(existing, "previous", UTF_8);
+        Template template = Mustache.compiler().compile("rendered {{#fail}}{{/fail}}");
+        Map<String, Object> context = new HashMap<String, Object>();
+        context.put("fail", new Mustache.Lambda() {
+            @Override
+            public void execute(Template.Fragment frag, Writer out) throws IOException {
+                out.write("partial");
+                out.flush();
+                throw new IllegalStateException("render failed");
+            }
+        });
+
+        DefaultGenerator generator = new DefaultGenerator();
+        assertRenderFails(generator, existing, template, context);
+        assertRenderFails(generator, missing, template, context);
+        assertEquals(FileUtils.readFileToString(existing, UTF_8), "previous");
+        assertFalse(missing.exists());
+        assertEquals(folder.getRoot().list().length, 2, Arrays.toString(folder.getRoot().list()));
+
+        InMemoryOutputSink memory = new InMemoryOutputSink(folder.getRoot());
+        generator.outputSink = memory;
+        assertRenderFails(generator, missing, template, context);
+        assertTrue(memory.getFiles().isEmpty());
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        ZipOutputSink zipSink = new ZipOutputSink(zip, folder.getRoot());
+        generator.outputSink = zipSink;
+        assertRenderFails(generator, missing, template, context);
+        zipSink.close();
+        assertNull(new ZipInputStream(new ByteArrayInputStream(zip.toByteArray())).getNextEntry());
+    }
+
+    @Test(description = "compiles the templates again with the compiler of a new config")
+    public void testTemplateCompilerFollowsConfig() throws Exception {
+        final File template = new File(folder.getRoot(), "name.mustache");
+        FileUtils.writeStringToFile(template, "{{name}}", UTF_8);
+        Map<String, Object> context = new HashMap<String, Object>();
+        context.put("name", "<Pet>");
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).config(escapingConfig(true)));
+        assertEquals(generator.getCompiledTemplate(template.getAbsolutePath()).execute(context), "&lt;Pet&gt;");
+        assertEquals(generator.getTemplateCache().size(), 1);
+
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).config(escapingConfig(false)));
+        assertEquals(generator.getTemplateCache().size(), 0);
+        assertEquals(generator.getCompiledTemplate(template.getAbsolutePath()).execute(context), "<Pet>");
+    }
+
+    private static CodegenConfig escapingConfig(final boolean escapeHTML) {
+        return new JavaClientCodegen() {
+            @Override
+            public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
+                return super.processCompiler(compiler).escapeHTML(escapeHTML);
+            }
+        };
+    }
+
+    private static void assertRenderFails(DefaultGenerator generator, File file, Template template, Object context) {
+        try {
+            generator.writeToFile(file.getAbsolutePath(), template, context);
+            fail("rendering " + file + " should fail");
+        } catch (Exception e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testZipOutput() throws Exception {
+        final File output = new File(folder.getRoot(), "zip");
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        ZipOutputSink sink = new ZipOutputSink(zip, output);
+        List<File> files = generatePetstore(output, true, sink);
+        sink.close();
+
+        assertFalse(output.exists());
+        Set<String> entries = new HashSet<String>();
+        ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip.toByteArray()));
+        try {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        } finally {
+            in.close();
+        }
+        assertEquals(entries.size(), files.size());
+        assertTrue(entries.contains(MODEL_ORDER_FILE.substring(1)));
+        assertTrue(entries.contains(POM_FILE));
+    }
+
+    @Test
+    public void testTimingsReport() throws Exception {
+        final File output = folder.getRoot();
+        final File report = new File(output, "timings.json");
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.TIMINGS_REPORT, report.getAbsolutePath());
+        List<File> files = generator.opts(clientOptInput).generate();
+
+        assertEquals(generator.getMetrics().getFilesWritten(), files.size());
+        assertTrue(generator.getMetrics().getBytesProduced() > 0);
+
+        JsonNode json = Json.mapper().readTree(report);
+        assertEquals(json.get("filesWritten").asInt(), files.size());
+        assertTrue(json.get("phases").has(GenerationMetrics.FLATTEN));
+        assertTrue(json.get("phases").has(GenerationMetrics.RENDER_MODELS));
+        assertTrue(json.get("phases").has(GenerationMetrics.SUPPORTING_FILES));
+        assertTrue(json.get("templates").get("model.mustache").get("count").asInt() > 0);
+        assertTrue(json.get("models").has("Order"));
+        assertTrue(json.get("apis").has("pet"));
+    }
+
+    @Test
+    public void testModelOrder() throws Exception {
+        Map<String, Model> definitions = new LinkedHashMap<String, Model>();
+        definitions.put("grandChild", new ComposedModel().interfaces(Arrays.asList(new RefModel("child"))));
+        definitions.put("child", new ComposedModel().interfaces(Arrays.asList(new RefModel("parent"))));
+        definitions.put("parent", new ModelImpl());
+        definitions.put("another", new ModelImpl());
+        // cyclic hierarchies must not hang the ordering
+        definitions.put("cycleA", new ComposedModel().interfaces(Arrays.asList(new RefModel("cycleB"))));
+        definitions.put("cycleB", new ComposedModel().interfaces(Arrays.asList(new RefModel("cycleA"))));
+
+        DefaultGenerator.ModelOrderComparator comparator = new DefaultGenerator.ModelOrderComparator(definitions, new JavaClientCodegen());
+        assertEquals(comparator.getInheritanceDepth("parent"), 0);
+        assertEquals(comparator.getInheritanceDepth("child"), 1);
+        assertEquals(comparator.getInheritanceDepth("grandChild"), 2);
+        assertEquals(comparator.getInheritanceDepth("unknown"), 0);
+
+        TreeMap<String, Object> ordered = new TreeMap<String, Object>(comparator);
+        for (String name : Arrays.asList("parent", "child", "grandChild", "another")) {
+            ordered.put(name, name);
+        }
+        assertEquals(new ArrayList<String>(ordered.keySet()), Arrays.asList("another", "parent", "child", "grandChild"));
+        assertEquals(comparator.getInheritanceDepth("cycleA") + comparator.getInheritanceDepth("cycleB"), 1);
+    }
+
+    @Test
+    public void testConcurrentGenerationOptions() throws Exception {
+        final File output = folder.getRoot();
+        final GenerationOptions modelsOnly = GenerationOptions.builder().property(CodegenConstants.MODELS, "").build();
+        final GenerationOptions apisOnly = GenerationOptions.builder()
+                .property(CodegenConstants.APIS, "")
+                .property(CodegenConstants.API_DOCS, "false")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<File>> models = executor.submit(generateWithOptions(new File(output, "models"), modelsOnly));
+            Future<List<File>> apis = executor.submit(generateWithOptions(new File(output, "apis"), apisOnly));
+            models.get();
+            apis.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(new File(output, "models/src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(output, "models/src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertTrue(new File(output, "apis/src/main/java/io/swagger/client/api/PetApi.java").exists());
+        assertFalse(new File(output, "apis/src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(output, "apis/docs/PetApi.md").exists());
+    }
+
+    private static Callable<List<File>> generateWithOptions(final File output, final GenerationOptions options) {
+        return new Callable<List<File>>() {
+            @Override
+            public List<File> call() {
+                final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+                CodegenConfig codegenConfig = new JavaClientCodegen();
+                codegenConfig.setOutputDir(output.getAbsolutePath());
+                ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger)
+                        .config(codegenConfig).generationOptions(options);
+                return new DefaultGenerator().opts(clientOptInput).generate();
+            }
+        };
+    }
+
+    @Test
+    public void testDryRun() throws Exception {
+        final File output = folder.getRoot();
+        List<File> generated = generatePetstore(output, false, new InMemoryOutputSink(output));
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.DRY_RUN, "true");
+        List<File> planned = generator.opts(clientOptInput).generate();
+
+        assertEquals(planned, generated);
+        assertEquals(output.list().length, 0, "A dry run must not write any files");
+        GenerationPlan plan = generator.getGenerationPlan();
+        assertEquals(plan.getFiles().size(), planned.size());
+        for (GenerationPlan.PlannedFile plannedFile : plan.getFiles()) {
+            assertTrue(plannedFile.getEstimatedBytes() > 0, plannedFile + " has no size estimate");
+        }
+        assertEquals(generator.getTemplateCache().size(), 0, "A dry run must not compile templates");
+    }
+
+    @Test(description = "regenerates only changed definitions and what depends on them, and files no longer ignored")
+    public void testIncrementalGeneration() throws Exception {
+        final File output = folder.getRoot();
+        final File ignoreFile = new File(output, ".swagger-codegen-ignore");
+        final File category = new File(output, "src/main/java/io/swagger/client/model/Category.java");
+        FileUtils.writeStringToFile(ignoreFile, "**/model/Category.java\n", UTF_8);
+        generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"));
+        assertFalse(category.exists());
+
+        FileUtils.writeStringToFile(ignoreFile, "# no rules\n", UTF_8);
+        DefaultGenerator generator = generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"));
+        assertTrue(category.exists());
+        assertEquals(regenerated(generator, "models"), new HashSet<String>(Arrays.asList("Category", "Order", "Pet", "Tag", "User")));
+
+        generator = generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"));
+        assertTrue(regenerated(generator, "models").isEmpty());
+        assertTrue(regenerated(generator, "apis").isEmpty());
+
+        Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        ((ModelImpl) swagger.getDefinitions().get("Tag")).addProperty("color", new StringProperty());
+        generator = generateIncrementally(output, swagger);
+        assertEquals(regenerated(generator, "models"), new HashSet<String>(Arrays.asList("Pet", "Tag")));
+        // only the pet api uses pets
+        assertEquals(regenerated(generator, "apis").size(), 1);
+        assertTrue(FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/model/Tag.java"), UTF_8)
+                .contains("color"));
+    }
+
+    @Test(description = "resolves the template locations again for every run")
+    public void testTemplateOverrideAddedBetweenRuns() throws Exception {
+        final File templateDir = folder.newFolder("templates");
+        JavaClientCodegen config = new JavaClientCodegen();
+        config.setOutputDir(folder.getRoot().getAbsolutePath());
+        config.setTemplateDir(templateDir.getAbsolutePath());
+        ClientOptInput input = new ClientOptInput().opts(new ClientOpts()).config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(input);
+        assertEquals(generator.getFullTemplateFile(config, "model.mustache"), "Java" + File.separator + "model.mustache");
+
+        FileUtils.writeStringToFile(new File(templateDir, "model.mustache"), "{{#models}}{{/models}}", UTF_8);
+        generator.opts(input);
+        assertEquals(generator.getFullTemplateFile(config, "model.mustache"),
+                templateDir.getAbsolutePath() + File.separator + "model.mustache");
+    }
+
+    @Test(description = "unchanged files are rendered in memory and never opened for writing")
+    public void testIncrementalGenerationKeepsUnchangedFiles() throws Exception {
+        final File output = folder.getRoot();
+        final Set<String> opened = Collections.synchronizedSet(new HashSet<String>());
+        OutputSink sink = new DirectoryOutputSink() {
+            @Override
+            public AbortableOutputStream openStream(File file) throws IOException {
+                opened.add(file.getName());
+                return super.openStream(file);
+            }
+        };
+        generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"), sink);
+        assertTrue(opened.contains("pom.xml"));
+        assertTrue(opened.contains("Pet.java"));
+
+        opened.clear();
+        generateIncrementally(output, new SwaggerParser().read("src/test/resources/petstore.json"), sink);
+        assertFalse(opened.contains("pom.xml"));
+        assertFalse(opened.contains("README.md"));
+        assertFalse(opened.contains("Pet.java"));
+        assertTrue(new File(output, "pom.xml").exists());
+        for (File file : FileUtils.listFiles(output, null, true)) {
+            assertFalse(file.getName().endsWith(".swagger-codegen-tmp"), file.getPath());
+        }
+    }
+
+    private static DefaultGenerator generateIncrementally(File output, Swagger swagger) {
+        return generateIncrementally(output, swagger, null);
+    }
+
+    private static DefaultGenerator generateIncrementally(File output, Swagger swagger, OutputSink sink) {
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generationOptions(GenerationOptions.builder().property(CodegenConstants.INCREMENTAL, "true").build())
+                .outputSink(sink);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(clientOptInput).generate();
+        return generator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> regenerated(DefaultGenerator generator, String kind) {
+        return new HashSet<String>(((Map<String, Object>) generator.getMetrics().toReport().get(kind)).keySet());
+    }
+
+    private static List<File> generatePetstore(File output, boolean parallel) {
+        return generatePetstore(output, parallel, null);
+    }
+
+    private static List<File> generatePetstore(File output, boolean parallel, OutputSink sink) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .outputSink(sink);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.PARALLEL_MODELS, String.valueOf(parallel));
+        generator.setGeneratorPropertyDefault(CodegenConstants.PARALLEL_APIS, String.valueOf(parallel));
+        generator.setGeneratorPropertyDefault(CodegenConstants.PARALLEL_THREADS, "4");
+        return generator.opts(clientOptInput).generate();
+    }
+
     private void assertOperationHasTags(CodegenOperation op, List<Tag> expectedTags) {
         assertNotNull(op.tags);
         assertEquals(op.tags.size(), expectedTags.size());
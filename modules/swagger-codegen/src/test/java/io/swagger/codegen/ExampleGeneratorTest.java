@@ -1,10 +1,12 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
 import io.swagger.models.Xml;
 import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.IntegerProperty;
 import io.swagger.models.properties.RefProperty;
 import io.swagger.models.properties.StringProperty;
 
@@ -70,4 +72,39 @@ public class ExampleGeneratorTest {
         Assert.assertEqualsNoOrder(types.toArray(new String[types.size()]),
                 expectedTypes.toArray(new String[expectedTypes.size()]));
     }
+
+    @Test(description = "check reuse of rendered examples")
+    public void cachedExamplesTest() {
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        final ModelImpl tag = new ModelImpl().name("Tag").property("id", new IntegerProperty())
+                .property("name", new StringProperty());
+        final ModelImpl pet = new ModelImpl().name("Pet").property("name", new StringProperty())
+                .property("tags", new ArrayProperty(new RefProperty("Tag")).xml(new Xml().wrapped(true)));
+        final Map<String, Model> definitions = ImmutableMap.<String, Model>of("Tag", tag, "Pet", pet);
+        final ExampleCache cache = new ExampleCache(definitions);
+
+        final List<Map<String, String>> first = new ExampleGenerator(definitions, cache)
+                .generate(null, mediaTypes, new ArrayProperty(new RefProperty("Pet")));
+        final List<Map<String, String>> second = new ExampleGenerator(definitions, cache)
+                .generate(null, mediaTypes, new ArrayProperty(new RefProperty("Pet")));
+        Assert.assertEquals(first.size(), 2);
+        Assert.assertEquals(second, first);
+        for (int i = 0; i < first.size(); i++) {
+            Assert.assertSame(second.get(i).get("example"), first.get(i).get("example"));
+        }
+        Assert.assertEquals(new ExampleGenerator(definitions).generate(null, mediaTypes,
+                new ArrayProperty(new RefProperty("Pet"))), first);
+
+        final List<Map<String, String>> model = new ExampleGenerator(definitions, cache).generate(null, mediaTypes, "Pet");
+        Assert.assertEquals(new ExampleGenerator(definitions).generate(null, mediaTypes, "Pet"), model);
+        Assert.assertEquals(model.get(1).get("example"), "<Pet>\n" +
+                "  <name>aeiou</name>\n" +
+                "  <tags>\n" +
+                "    <Tag>\n" +
+                "      <id>123</id>\n" +
+                "      <name>aeiou</name>\n" +
+                "    </Tag>\n" +
+                "  </tags>\n" +
+                "</Pet>");
+    }
 }
@@ -0,0 +1,129 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class FanOutGeneratorTest {
+
+    private static final String SPEC = "src/test/resources/2_0/petstore.yaml";
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testSameOutputAsSingleGeneration() throws Exception {
+        File fanOut = folder.newFolder("fan-out");
+        File single = folder.newFolder("single");
+
+        List<List<File>> results = new FanOutGenerator().threads(2).generate(Arrays.asList(
+                target("java", new File(fanOut, "java")),
+                target("python", new File(fanOut, "python"))));
+        assertEquals(results.size(), 2);
+        assertTrue(new File(fanOut, "java/src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertTrue(new File(fanOut, "python/swagger_client/models/pet.py").exists());
+
+        List<File> files = new DefaultGenerator().opts(target("java", single).toClientOptInput()).generate();
+        assertEquals(results.get(0).size(), files.size());
+        String path = "src/main/java/io/swagger/client/api/PetApi.java";
+        assertEquals(FileUtils.readFileToString(new File(fanOut, "java/" + path), StandardCharsets.UTF_8),
+                FileUtils.readFileToString(new File(single, path), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testTargetsDoNotShareOptions() throws Exception {
+        File output = folder.getRoot();
+        CodegenConfigurator withoutDocs = target("java", new File(output, "without-docs"));
+        withoutDocs.addSystemProperty(CodegenConstants.MODEL_DOCS, "false");
+
+        new FanOutGenerator().generate(Arrays.asList(withoutDocs, target("java", new File(output, "with-docs"))));
+
+        assertTrue(new File(output, "with-docs/docs/Pet.md").exists());
+        assertFalse(new File(output, "without-docs/docs/Pet.md").exists());
+        assertNull(System.getProperty(CodegenConstants.MODEL_DOCS));
+    }
+
+    @Test
+    public void testFlattensOnce() throws Exception {
+        File spec = new File(folder.getRoot(), "inline.yaml");
+        FileUtils.writeStringToFile(spec, "swagger: '2.0'\n"
+                + "info:\n"
+                + "  title: inline\n"
+                + "  version: 1.0.0\n"
+                + "paths:\n"
+                + "  /pets:\n"
+                + "    get:\n"
+                + "      responses:\n"
+                + "        200:\n"
+                + "          description: ok\n"
+                + "          schema:\n"
+                + "            title: Listing\n"
+                + "            type: object\n"
+                + "            properties:\n"
+                + "              name:\n"
+                + "                type: string\n", StandardCharsets.UTF_8);
+        final List<Swagger> copies = new ArrayList<Swagger>();
+        FanOutGenerator generator = new FanOutGenerator() {
+            @Override
+            protected List<File> generate(CodegenConfigurator target, Swagger swagger) {
+                synchronized (copies) {
+                    copies.add(swagger);
+                }
+                return super.generate(target, swagger);
+            }
+        };
+
+        File output = folder.getRoot();
+        generator.generate(Arrays.asList(target("java", new File(output, "java")).setInputSpec(spec.getAbsolutePath()),
+                target("python", new File(output, "python")).setInputSpec(spec.getAbsolutePath())));
+
+        assertEquals(copies.size(), 2);
+        assertNotSame(copies.get(0), copies.get(1));
+        for (Swagger copy : copies) {
+            assertEquals(copy.getDefinitions().keySet(), Collections.singleton("Listing"));
+        }
+        assertTrue(new File(output, "java/src/main/java/io/swagger/client/model/Listing.java").exists());
+
+        // a spec marked as flattened is generated as it is
+        CodegenConfigurator target = target("java", new File(output, "flattened")).setInputSpec(spec.getAbsolutePath());
+        DefaultGenerator single = new DefaultGenerator();
+        single.opts(target.toClientOptInput(target.readSwagger()).flattened(true)).generate();
+        assertFalse(new File(output, "flattened/src/main/java/io/swagger/client/model/Listing.java").exists());
+        assertEquals(single.getMetrics().getPhaseMillis(GenerationMetrics.FLATTEN), 0.0);
+    }
+
+    private static CodegenConfigurator target(String lang, File output) {
+        return new CodegenConfigurator()
+                .setLang(lang)
+                .setInputSpec(SPEC)
+                .setOutputDir(output.getAbsolutePath())
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+    }
+}
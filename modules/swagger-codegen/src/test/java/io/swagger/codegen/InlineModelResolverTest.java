@@ -9,7 +9,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static org.testng.AssertJUnit.*;
 
@@ -1021,4 +1023,116 @@ public class InlineModelResolverTest {
                 .type("string"));
         new InlineModelResolver().flatten(swagger);
     }
+
+    @Test
+    public void testManyInlineResponses() {
+        Swagger swagger = new Swagger();
+        int count = 2000;
+        for (int i = 0; i < count; i++) {
+            ObjectProperty schema = new ObjectProperty()
+                    .property("id", new LongProperty())
+                    .property(i % 2 == 0 ? "name" : "field" + i, new StringProperty());
+            swagger.path("/items/" + i, new Path()
+                    .get(new Operation()
+                            .response(200, new Response()
+                                    .description("it works!")
+                                    .schema(schema))));
+        }
+        swagger.path("/described", new Path()
+                .get(new Operation()
+                        .response(200, new Response()
+                                .description("it works!")
+                                .schema(new ObjectProperty()
+                                        .description("same properties, other description")
+                                        .property("id", new LongProperty())
+                                        .property("name", new StringProperty())))));
+
+        new InlineModelResolver().flatten(swagger);
+
+        assertEquals(count / 2 + 2, swagger.getDefinitions().size());
+        for (int i = 0; i < count; i += 2) {
+            RefProperty schema = (RefProperty) swagger.getPaths().get("/items/" + i).getGet().getResponses().get("200").getSchema();
+            assertEquals("inline_response_200", schema.getSimpleRef());
+        }
+        RefProperty last = (RefProperty) swagger.getPaths().get("/items/" + (count - 1)).getGet().getResponses().get("200").getSchema();
+        assertEquals("inline_response_200_" + (count / 2), last.getSimpleRef());
+        RefProperty described = (RefProperty) swagger.getPaths().get("/described").getGet().getResponses().get("200").getSchema();
+        assertEquals("inline_response_200_" + (count / 2 + 1), described.getSimpleRef());
+    }
+
+    @Test
+    public void testMatchInlineResponseAfterFlattening() {
+        Swagger swagger = new Swagger();
+        // sorted, so the generated response model is flattened before the definition is
+        swagger.setDefinitions(new TreeMap<String, Model>());
+        swagger.addDefinition("zWrapper", new ModelImpl().property("data", ownerObject()));
+        swagger.path("/pets", new Path()
+                .get(new Operation()
+                        .response(200, new Response()
+                                .description("it works!")
+                                .schema(ownerObject()))));
+
+        new InlineModelResolver().flatten(swagger);
+
+        RefProperty schema = (RefProperty) swagger.getPaths().get("/pets").getGet().getResponses().get("200").getSchema();
+        assertEquals("inline_response_200", schema.getSimpleRef());
+        // the nested object of the response model was replaced by a model when the definitions were flattened
+        assertTrue(swagger.getDefinitions().get("inline_response_200").getProperties().get("owner") instanceof RefProperty);
+        RefProperty data = (RefProperty) swagger.getDefinitions().get("zWrapper").getProperties().get("data");
+        assertEquals("inline_response_200", data.getSimpleRef());
+        assertNull(swagger.getDefinitions().get("zWrapper_data"));
+    }
+
+    @Test
+    public void testSerializeOnlyModelsWithSameFingerprint() {
+        Swagger swagger = new Swagger();
+        swagger.path("/pets", new Path().get(new Operation().response(200, new Response().schema(ownerObject()))));
+        swagger.path("/tags", new Path().get(new Operation().response(200, new Response().schema(labelObject()))));
+        swagger.path("/labels", new Path().get(new Operation().response(200, new Response().schema(labelObject()))));
+
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        RefProperty labels = (RefProperty) swagger.getPaths().get("/labels").getGet().getResponses().get("200").getSchema();
+        assertEquals("inline_response_200_1", labels.getSimpleRef());
+        int models = 0;
+        int serialized = 0;
+        for (List<InlineModelResolver.GeneratedModel> candidates : resolver.generatedModels.values()) {
+            for (InlineModelResolver.GeneratedModel candidate : candidates) {
+                models++;
+                if (candidate.isSerialized()) {
+                    serialized++;
+                }
+            }
+        }
+        assertEquals(3, models);
+        // only the model of /tags was compared with another one, by the response of /labels
+        assertEquals(1, serialized);
+    }
+
+    private static ObjectProperty labelObject() {
+        return new ObjectProperty().property("label", new StringProperty());
+    }
+
+    private static ObjectProperty ownerObject() {
+        return new ObjectProperty()
+                .property("name", new StringProperty())
+                .property("owner", new ObjectProperty().property("id", new LongProperty()));
+    }
+
+    @Test
+    public void testUniqueName() {
+        Swagger swagger = new Swagger();
+        swagger.addDefinition("Foo", new ModelImpl());
+        swagger.addDefinition("Foo_1", new ModelImpl());
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.flatten(swagger);
+
+        assertEquals("Foo_2", resolver.uniqueName("Foo"));
+        // names that are not used yet are handed out again
+        assertEquals("Foo_2", resolver.uniqueName("Foo"));
+        swagger.addDefinition("Foo_2", new ModelImpl());
+        assertEquals("Foo_3", resolver.uniqueName("F-o-o"));
+        assertEquals("Bar", resolver.uniqueName("Bar"));
+    }
 }
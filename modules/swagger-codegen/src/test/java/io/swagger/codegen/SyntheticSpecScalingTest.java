@@ -0,0 +1,125 @@
+package io.swagger.codegen;
+
+import com.sun.management.ThreadMXBean;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.codegen.testutils.SyntheticSpecBuilder;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+import static org.testng.Assert.*;
+
+/**
+ * Generates synthetic specs of increasing size for the core languages and checks that the output and the
+ * memory allocated by the generation grow linearly with the spec size. The generation time is compared by
+ * ScaleBenchmark of the benchmarks module, where it can be measured reliably.
+ */
+public class SyntheticSpecScalingTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SyntheticSpecScalingTest.class);
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 8;
+    // allocations may grow somewhat faster than the spec, a quadratic step would exceed this by far
+    private static final double ALLOCATION_SLACK = 1.5;
+
+    @DataProvider(name = "languages")
+    public Object[][] languages() {
+        return new Object[][]{{"java"}, {"typescript-angular"}, {"python"}, {"go"}};
+    }
+
+    @Test(description = "builds the same spec for the same parameters")
+    public void testDeterministic() throws Exception {
+        Swagger first = new SyntheticSpecBuilder().definitions(30).inheritanceDepth(3).inlineNesting(2).build();
+        Swagger second = new SyntheticSpecBuilder().definitions(30).inheritanceDepth(3).inlineNesting(2).build();
+        assertEquals(Json.pretty(first), Json.pretty(second));
+        assertEquals(first.getDefinitions().size(), 30 + 5);
+        assertEquals(first.getTags().size(), 5);
+    }
+
+    @Test(description = "resolves the inline objects of every definition")
+    public void testFlatten() {
+        Swagger swagger = new SyntheticSpecBuilder().definitions(10).enums(2).inheritanceDepth(0).inlineNesting(2).build();
+        new InlineModelResolver().flatten(swagger);
+
+        assertTrue(swagger.getDefinitions().size() > 10 + 2);
+        for (Model model : swagger.getDefinitions().values()) {
+            if (model.getProperties() != null) {
+                for (Property property : model.getProperties().values()) {
+                    assertFalse(property instanceof ObjectProperty);
+                }
+            }
+        }
+    }
+
+    @Test(dataProvider = "languages", description = "output grows linearly with the spec size")
+    public void testScaling(String language) throws Exception {
+        int small = generate(language, SMALL);
+        int large = generate(language, LARGE);
+        LOGGER.info(language + ": " + small + " -> " + large + " files");
+
+        int factor = LARGE / SMALL;
+        assertTrue(large > small);
+        assertTrue(large <= small * factor, "Output grows faster than the spec: " + small + " -> " + large + " files");
+    }
+
+    @Test(dataProvider = "languages", description = "allocated memory grows linearly with the spec size")
+    public void testAllocationScaling(String language) throws Exception {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof ThreadMXBean) || !((ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Allocated memory of a thread cannot be measured on this JVM");
+        }
+        ThreadMXBean allocations = (ThreadMXBean) threads;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+        // load the classes and templates before measuring
+        generate(language, SMALL);
+
+        long small = allocatedBytes(allocations, language, SMALL);
+        long large = allocatedBytes(allocations, language, LARGE);
+        LOGGER.info(language + ": " + small + " -> " + large + " bytes allocated");
+
+        int factor = LARGE / SMALL;
+        assertTrue(large <= small * factor * ALLOCATION_SLACK,
+                "Allocations grow faster than the spec: " + small + " -> " + large + " bytes");
+    }
+
+    /**
+     * The generation runs sequentially, so everything it allocates is allocated by the current thread.
+     *
+     * @return the number of bytes allocated by the generation
+     */
+    private static long allocatedBytes(ThreadMXBean allocations, String language, int factor) {
+        long threadId = Thread.currentThread().getId();
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        generate(language, factor);
+        return allocations.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * @return the number of generated files
+     */
+    private static int generate(String language, int factor) {
+        Swagger swagger = SyntheticSpecBuilder.petstoreTimes(factor).build();
+        File output = new File("target/synthetic/" + language);
+        CodegenConfig config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(output.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        InMemoryOutputSink sink = new InMemoryOutputSink(output);
+        ClientOptInput input = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(config).outputSink(sink);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setGeneratorPropertyDefault(CodegenConstants.PARALLEL_MODELS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.PARALLEL_APIS, "false");
+        generator.opts(input).generate();
+        return sink.getFiles().size();
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.GenerationOptions;
 import io.swagger.codegen.auth.AuthParser;
 import io.swagger.codegen.languages.JavaClientCodegen;
 import io.swagger.models.Swagger;
@@ -24,6 +25,7 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
@@ -53,18 +55,47 @@ public class CodegenConfiguratorTest {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        GenerationOptions options = clientOptInput.getGenerationOptions();
+        assertEquals(options.asMap().get(CodegenConstants.DEBUG_SWAGGER), "");
+        assertEquals(options.asMap().get(CodegenConstants.DEBUG_MODELS), "");
+        assertEquals(options.asMap().get(CodegenConstants.DEBUG_OPERATIONS), "");
+        assertEquals(options.asMap().get(CodegenConstants.DEBUG_SUPPORTING_FILES), "");
+        assertNull(System.getProperty(CodegenConstants.DEBUG_MODELS));
+    }
+
+    @Test
+    public void testGeneratorSystemProperties() throws Exception {
+
+        configurator.addSystemProperty(CodegenConstants.MODELS, "Pet,Order")
+                .addSystemProperty(CodegenConstants.MODEL_DOCS, "false");
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        GenerationOptions options = clientOptInput.getGenerationOptions();
+        assertEquals(options.get(CodegenConstants.MODELS), "Pet,Order");
+        assertEquals(options.get(CodegenConstants.MODEL_DOCS), "false");
+        assertNull(System.getProperty(CodegenConstants.MODELS));
+        assertNull(System.getProperty(CodegenConstants.MODEL_DOCS));
+    }
+
+    @Test
+    public void testUnsetGeneratorSystemProperties() throws Exception {
+
+        configurator.addSystemProperty(CodegenConstants.APIS, null);
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        GenerationOptions options = clientOptInput.getGenerationOptions();
+        System.setProperty(CodegenConstants.APIS, "");
+        try {
+            assertNull(options.get(CodegenConstants.APIS));
+            assertFalse(options.isSet(CodegenConstants.APIS));
+            assertNull(options.get(CodegenConstants.MODELS));
+        } finally {
+            System.clearProperty(CodegenConstants.APIS);
+        }
     }
 
     @Test
@@ -0,0 +1,106 @@
+package io.swagger.codegen.config;
+
+import io.swagger.models.Swagger;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class SpecCacheTest {
+
+    private static final String SPEC = "swagger: '2.0'\n"
+            + "info:\n"
+            + "  title: cached\n"
+            + "  version: 1.0.0\n"
+            + "paths:\n"
+            + "  /pets:\n"
+            + "    get:\n"
+            + "      responses:\n"
+            + "        200:\n"
+            + "          description: ok\n"
+            + "          schema:\n"
+            + "            type: object\n"
+            + "            properties:\n"
+            + "              pet:\n"
+            + "                $ref: 'models.yaml#/Pet'\n";
+
+    private static final String MODELS = "Pet:\n"
+            + "  type: object\n"
+            + "  properties:\n"
+            + "    name:\n"
+            + "      type: string\n";
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File spec;
+    private File cacheDir;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+        spec = folder.newFile("spec.yaml");
+        FileUtils.writeStringToFile(spec, SPEC, StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "models.yaml"), MODELS, StandardCharsets.UTF_8);
+        cacheDir = new File(folder.getRoot(), "cache");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testKeyCoversReferencedFiles() throws Exception {
+        SpecCache cache = new SpecCache(cacheDir);
+        String key = cache.key(spec.getPath(), null);
+        assertNotNull(key);
+        assertEquals(cache.key(spec.getAbsolutePath(), null), key);
+        assertNotEquals(cache.key(spec.getPath(), "Authorization:token"), key);
+
+        FileUtils.writeStringToFile(new File(folder.getRoot(), "models.yaml"), MODELS + "    tag:\n      type: string\n",
+                StandardCharsets.UTF_8);
+        assertNotEquals(cache.key(spec.getPath(), null), key);
+    }
+
+    @Test
+    public void testRemoteSpecsAreNotCached() throws Exception {
+        SpecCache cache = new SpecCache(cacheDir);
+        assertNull(cache.key("http://petstore.swagger.io/v2/swagger.json", null));
+
+        FileUtils.writeStringToFile(spec, SPEC.replace("models.yaml", "http://example.com/models.yaml"), StandardCharsets.UTF_8);
+        assertNull(cache.key(spec.getPath(), null));
+    }
+
+    @Test
+    public void testReadSwaggerUsesCache() throws Exception {
+        CodegenConfigurator configurator = new CodegenConfigurator()
+                .setInputSpec(spec.getAbsolutePath())
+                .setSpecCache(true)
+                .setSpecCacheDir(cacheDir.getAbsolutePath());
+
+        Swagger parsed = configurator.readSwagger();
+        assertTrue(parsed.getDefinitions().containsKey("Pet"));
+        assertTrue(parsed.getDefinitions().containsKey("inline_response_200"));
+        File[] entries = cacheDir.listFiles();
+        assertNotNull(entries);
+        assertEquals(entries.length, 1);
+
+        Swagger cached = configurator.readSwagger();
+        assertEquals(cached.getDefinitions().keySet(), parsed.getDefinitions().keySet());
+        assertEquals(cached.getInfo().getTitle(), "cached");
+
+        // a corrupt entry is parsed again
+        FileUtils.writeStringToFile(entries[0], "not gzip", StandardCharsets.UTF_8);
+        assertEquals(configurator.readSwagger().getDefinitions().keySet(), parsed.getDefinitions().keySet());
+    }
+}
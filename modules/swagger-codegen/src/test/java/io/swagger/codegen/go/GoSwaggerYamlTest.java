@@ -0,0 +1,64 @@
+package io.swagger.codegen.go;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.GoClientCodegen;
+import io.swagger.codegen.languages.GoServerCodegen;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+public class GoSwaggerYamlTest {
+
+    private static final String SPEC = "src/test/resources/2_0/petstore.yaml";
+    private static final String SWAGGER_YAML = "api/swagger.yaml";
+
+    @Test(description = "api/swagger.yaml of the go client keeps the examples generated for the models")
+    public void testClientSwaggerYaml() throws Exception {
+        assertSameSwaggerYaml(new GoClientCodegen(), new GoClientCodegen(), "src/main/resources/go");
+    }
+
+    @Test(description = "api/swagger.yaml of the go server keeps the examples generated for the models")
+    public void testServerSwaggerYaml() throws Exception {
+        assertSameSwaggerYaml(new GoServerCodegen(), new GoServerCodegen(), "src/main/resources/go-server");
+    }
+
+    /**
+     * Compares the output of the embedded templates with the output of the same templates as custom templates, for
+     * which every template field is computed.
+     */
+    private static void assertSameSwaggerYaml(CodegenConfig embedded, CodegenConfig custom, String templateDir) {
+        custom.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, new File(templateDir).getAbsolutePath());
+
+        String expected = generateSwaggerYaml(custom);
+        String actual = generateSwaggerYaml(embedded);
+
+        Assert.assertEquals(actual, expected);
+        // the spec has no model examples, the generated ones are added when the operations are processed
+        Assert.assertTrue(actual.substring(actual.indexOf("\ndefinitions:")).contains("example:"), actual);
+    }
+
+    private static String generateSwaggerYaml(CodegenConfig config) {
+        Swagger swagger = new SwaggerParser().read(SPEC);
+        File output = new File("target/go-swagger-yaml");
+        config.setOutputDir(output.getAbsolutePath());
+        config.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        InMemoryOutputSink sink = new InMemoryOutputSink(output);
+
+        ClientOptInput input = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(config)
+                .outputSink(sink);
+        new DefaultGenerator().opts(input).generate();
+
+        byte[] content = sink.getContent(SWAGGER_YAML);
+        Assert.assertNotNull(content, SWAGGER_YAML);
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package io.swagger.codegen.ignore.rules;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class IgnoreMatcherTest {
+
+    private static final String[] RULE_SEGMENTS = {
+            "a", "b", "docs", "Users", "x.txt", "*", "**", "?", "*.md", "a*", "*b", "[ab]", "{a,b}", "*.{md,txt}", "x\\ y"
+    };
+
+    private static final String[] PATH_SEGMENTS = {"a", "b", "ab", "docs", "Users", "x.txt", "y.md", "x y", "c"};
+
+    @Test
+    public void testDirectoryRules() throws Exception {
+        // Arrange
+        List<Rule> exclusions = rules("docs/**/Users/", "build/");
+        List<Rule> inclusions = rules("!docs/1/Users/UserApi.md", "!build/");
+        IgnoreMatcher matcher = new IgnoreMatcher(exclusions, inclusions);
+
+        // Act, Assert
+        assertFalse(matcher.allows("docs/1/Users/UserApi.md"));
+        assertFalse(matcher.allows("docs/1/2/Users/a"));
+        assertTrue(matcher.allows("docs/1/Users1/a"));
+        assertTrue(matcher.allows("docs/Users"));
+        assertTrue(matcher.allows("build/a"));
+        assertTrue(matcher.allows("src/build/a"));
+    }
+
+    @Test
+    public void testSameAsEvaluatingEachRule() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 300; i++) {
+            // Arrange
+            List<Rule> exclusions = new ArrayList<>();
+            List<Rule> inclusions = new ArrayList<>();
+            StringBuilder definitions = new StringBuilder();
+            for (int j = random.nextInt(6); j >= 0; j--) {
+                String definition = randomRule(random);
+                definitions.append(definition).append('\n');
+                Rule rule = Rule.create(definition);
+                if (rule != null) {
+                    (Boolean.TRUE.equals(rule.getNegated()) ? inclusions : exclusions).add(rule);
+                }
+            }
+            IgnoreMatcher matcher = new IgnoreMatcher(exclusions, inclusions);
+
+            for (int j = 0; j < 200; j++) {
+                String path = randomPath(random);
+
+                // Act, Assert
+                assertEquals(matcher.allows(path), evaluate(exclusions, inclusions, path),
+                        "rules:\n" + definitions + "path: " + path);
+            }
+        }
+    }
+
+    private static List<Rule> rules(String... definitions) {
+        List<Rule> rules = new ArrayList<>();
+        for (String definition : definitions) {
+            rules.add(Rule.create(definition));
+        }
+        return rules;
+    }
+
+    private static String randomRule(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(4) == 0) {
+            sb.append('!');
+        }
+        if (random.nextInt(4) == 0) {
+            sb.append('/');
+        }
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            sb.append(RULE_SEGMENTS[random.nextInt(RULE_SEGMENTS.length)]);
+            if (i > 0) {
+                sb.append('/');
+            }
+        }
+        if (random.nextInt(3) == 0) {
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+
+    private static String randomPath(Random random) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = random.nextInt(4); i >= 0; i--) {
+            sb.append(PATH_SEGMENTS[random.nextInt(PATH_SEGMENTS.length)]);
+            if (i > 0) {
+                sb.append('/');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Evaluates the rules one by one, as CodegenIgnoreProcessor did before the rules were compiled.
+     */
+    private static boolean evaluate(List<Rule> exclusionRules, List<Rule> inclusionRules, String path) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+        for (int i = 0; i < exclusionRules.size(); i++) {
+            Rule current = exclusionRules.get(i);
+            Rule.Operation op = current.evaluate(path);
+            if (op == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                if (current instanceof DirectoryRule) {
+                    directoryExcluded = true;
+                }
+            } else if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                i = exclusionRules.size();
+            }
+        }
+
+        for (int i = 0; exclude && i < inclusionRules.size(); i++) {
+            Rule current = inclusionRules.get(i);
+            if (current.evaluate(path).equals(Rule.Operation.INCLUDE)) {
+                if (current instanceof DirectoryRule && directoryExcluded) {
+                    exclude = false;
+                } else if (!directoryExcluded) {
+                    exclude = false;
+                }
+            }
+        }
+        return !exclude;
+    }
+}
@@ -0,0 +1,138 @@
+package io.swagger.codegen.incremental;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.RefModel;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+public class IncrementalGenerationTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "regenerates everything on the first run")
+    public void testFirstRun() throws Exception {
+        IncrementalGeneration generation = run(definitions("name"), "config");
+        assertFalse(generation.isDefinitionUpToDate("Pet"));
+        assertFalse(generation.isDefinitionUpToDate("Category"));
+        assertFalse(generation.isApiUpToDate("pet"));
+    }
+
+    @Test(description = "keeps unchanged definitions and apis of the previous run")
+    public void testUnchangedSpec() throws Exception {
+        record(run(definitions("name"), "config"), definitions("name").keySet());
+
+        IncrementalGeneration generation = run(definitions("name"), "config");
+        assertTrue(generation.isDefinitionUpToDate("Pet"));
+        assertTrue(generation.isDefinitionUpToDate("Category"));
+        assertTrue(generation.isDefinitionUpToDate("Tag"));
+        assertTrue(generation.isApiUpToDate("pet"));
+        assertEquals(generation.getPreviousDefinitionFiles("Pet"), Collections.singletonList(file("Pet.java")));
+    }
+
+    @Test(description = "regenerates a changed definition and everything that depends on it")
+    public void testChangedDefinition() throws Exception {
+        record(run(definitions("name"), "config"), definitions("name").keySet());
+
+        IncrementalGeneration generation = run(definitions("title"), "config");
+        assertFalse(generation.isDefinitionUpToDate("Category"));
+        assertFalse(generation.isDefinitionUpToDate("Pet"));
+        assertFalse(generation.isApiUpToDate("pet"));
+        assertTrue(generation.isDefinitionUpToDate("Tag"));
+    }
+
+    @Test(description = "regenerates everything when the generator configuration changed")
+    public void testChangedConfig() throws Exception {
+        record(run(definitions("name"), "config"), definitions("name").keySet());
+
+        IncrementalGeneration generation = run(definitions("name"), "other");
+        assertFalse(generation.isDefinitionUpToDate("Tag"));
+        assertFalse(generation.isApiUpToDate("pet"));
+    }
+
+    @Test(description = "regenerates files that were removed from the output folder")
+    public void testRemovedFile() throws Exception {
+        record(run(definitions("name"), "config"), definitions("name").keySet());
+        assertTrue(file("Tag.java").delete());
+
+        IncrementalGeneration generation = run(definitions("name"), "config");
+        assertFalse(generation.isDefinitionUpToDate("Tag"));
+        assertTrue(generation.isDefinitionUpToDate("Pet"));
+    }
+
+    @Test(description = "regenerates the sub types of a changed parent")
+    public void testChangedParent() throws Exception {
+        Map<String, Model> definitions = definitions("name");
+        definitions.put("Dog", new ComposedModel().parent(new RefModel("#/definitions/Pet")).child(new ModelImpl()));
+        record(run(definitions, "config"), definitions.keySet());
+
+        definitions = definitions("name");
+        definitions.put("Dog", new ComposedModel().parent(new RefModel("#/definitions/Pet")).child(new ModelImpl()));
+        ((ModelImpl) definitions.get("Pet")).property("age", new StringProperty());
+        IncrementalGeneration generation = run(definitions, "config");
+        assertFalse(generation.isDefinitionUpToDate("Dog"));
+        assertFalse(generation.isDefinitionUpToDate("Pet"));
+        assertTrue(generation.isDefinitionUpToDate("Category"));
+    }
+
+    private IncrementalGeneration run(Map<String, Model> definitions, String config) {
+        IncrementalGeneration generation = new IncrementalGeneration(folder.getRoot().getAbsolutePath(), config);
+        for (Map.Entry<String, Model> definition : definitions.entrySet()) {
+            generation.addDefinition(definition.getKey(), definition.getValue());
+        }
+        generation.addApi("pet", Arrays.<Object>asList("get", "/pet"), Collections.singleton("Pet"));
+        return generation;
+    }
+
+    private void record(IncrementalGeneration generation, Set<String> names) throws Exception {
+        for (String name : names) {
+            File file = file(name + ".java");
+            FileUtils.writeStringToFile(file, "class " + name + " {}");
+            generation.recordDefinitionFiles(name, Collections.singletonList(file));
+        }
+        File api = file("PetApi.java");
+        FileUtils.writeStringToFile(api, "class PetApi {}");
+        generation.recordApiFiles("pet", Collections.singletonList(api));
+        generation.save();
+        assertTrue(new File(folder.getRoot(), ".swagger-codegen/DEPENDENCIES").exists());
+    }
+
+    private File file(String name) {
+        return new File(folder.getRoot(), "src/" + name);
+    }
+
+    private static Map<String, Model> definitions(String categoryProperty) {
+        Map<String, Model> definitions = new LinkedHashMap<String, Model>();
+        definitions.put("Category", new ModelImpl().property(categoryProperty, new StringProperty()));
+        definitions.put("Tag", new ModelImpl().property("name", new StringProperty()));
+        definitions.put("Pet", new ModelImpl()
+                .property("name", new StringProperty())
+                .property("category", new RefProperty("#/definitions/Category")));
+        return definitions;
+    }
+}
@@ -0,0 +1,40 @@
+package io.swagger.codegen.mustache;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.*;
+
+public class EmbeddedTemplateIndexTest {
+
+    @Test(description = "lists the templates below an embedded template folder")
+    public void testIndex() {
+        EmbeddedTemplateIndex index = EmbeddedTemplateIndex.build(getClass().getClassLoader(), "Java");
+        assertNotNull(index);
+        assertTrue(index.contains("Java/model.mustache"));
+        assertTrue(index.contains("/Java/libraries/okhttp-gson/ApiClient.mustache"));
+        assertFalse(index.contains("Java/libraries/okhttp-gson/model.mustache"));
+        assertFalse(index.contains("Java/libraries"));
+    }
+
+    @Test(description = "returns null for a folder that is not on the class path")
+    public void testMissingFolder() {
+        assertNull(EmbeddedTemplateIndex.build(getClass().getClassLoader(), "no-such-template-folder"));
+    }
+
+    @Test(description = "resolves library and embedded templates through the index")
+    public void testFullTemplateFile() {
+        CodegenConfig config = new JavaClientCodegen();
+        config.setLibrary("okhttp-gson");
+
+        DefaultGenerator generator = new DefaultGenerator();
+        String apiClient = generator.getFullTemplateFile(config, "ApiClient.mustache");
+        assertEquals(apiClient, "Java" + File.separator + "libraries" + File.separator + "okhttp-gson" + File.separator + "ApiClient.mustache");
+        assertSame(generator.getFullTemplateFile(config, "ApiClient.mustache"), apiClient);
+        assertEquals(generator.getFullTemplateFile(config, "model.mustache"), "Java" + File.separator + "model.mustache");
+    }
+}
@@ -0,0 +1,56 @@
+package io.swagger.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class TemplateCacheTest extends MustacheTestBase {
+
+    @Test(description = "compiles a template once and serves it from the cache afterwards")
+    public void testCompilesOnce() {
+        final AtomicInteger reads = new AtomicInteger();
+        TemplateCache.TemplateSource source = new TemplateCache.TemplateSource() {
+            @Override
+            public String read(String templateFile) {
+                reads.incrementAndGet();
+                return "Hello {{name}}";
+            }
+        };
+        TemplateCache cache = new TemplateCache();
+        Mustache.Compiler compiler = Mustache.compiler();
+
+        Template first = cache.get(compiler, "model.mustache", source);
+        Template second = cache.get(compiler, "model.mustache", source);
+
+        assertSame(first, second);
+        assertEquals(reads.get(), 1);
+        assertEquals(cache.getMisses(), 1);
+        assertEquals(cache.getHits(), 1);
+        assertEquals(second.execute(context("name", "World")), "Hello World");
+    }
+
+    @Test(description = "keys templates by compiler as well as path")
+    public void testKeyedByCompiler() {
+        TemplateCache.TemplateSource source = new TemplateCache.TemplateSource() {
+            @Override
+            public String read(String templateFile) {
+                return "{{value}}";
+            }
+        };
+        TemplateCache cache = new TemplateCache();
+        Mustache.Compiler escaping = Mustache.compiler();
+        Mustache.Compiler raw = Mustache.compiler().escapeHTML(false);
+
+        Template escaped = cache.get(escaping, "api.mustache", source);
+        Template unescaped = cache.get(raw, "api.mustache", source);
+
+        assertNotSame(escaped, unescaped);
+        assertEquals(cache.size(), 2);
+        assertEquals(escaped.execute(context("value", "<a>")), "&lt;a&gt;");
+        assertEquals(unescaped.execute(context("value", "<a>")), "<a>");
+    }
+}
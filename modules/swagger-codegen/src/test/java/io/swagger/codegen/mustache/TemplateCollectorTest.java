@@ -0,0 +1,48 @@
+package io.swagger.codegen.mustache;
+
+import com.samskivert.mustache.Mustache;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+public class TemplateCollectorTest extends MustacheTestBase {
+
+    @Test(description = "computes lazy values on first access only")
+    public void testResolvesLazyValues() {
+        final AtomicInteger calls = new AtomicInteger();
+        Lazy<String> name = Lazy.of(new Callable<String>() {
+            @Override
+            public String call() {
+                calls.incrementAndGet();
+                return "World";
+            }
+        });
+        Mustache.Compiler compiler = Mustache.compiler();
+        compiler = compiler.withCollector(new TemplateCollector(compiler.collector));
+
+        assertEquals(compiler.compile("Hello").execute(context("name", name)), "Hello");
+        assertFalse(name.isComputed());
+        assertEquals(compiler.compile("Hello {{name}}, {{#name}}again {{.}}{{/name}}").execute(context("name", name)),
+                "Hello World, again World");
+        assertEquals(calls.get(), 1);
+    }
+
+    @Test(description = "iterates over lazy lists")
+    public void testResolvesLazySections() {
+        Lazy<Object> items = Lazy.of(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return Arrays.asList(context("name", "a"), context("name", "b"));
+            }
+        });
+        Mustache.Compiler compiler = Mustache.compiler();
+        compiler = compiler.withCollector(new TemplateCollector(compiler.collector));
+
+        assertEquals(compiler.compile("{{#items}}{{name}};{{/items}}{{^items}}none{{/items}}")
+                .execute(context("items", items)), "a;b;");
+    }
+}
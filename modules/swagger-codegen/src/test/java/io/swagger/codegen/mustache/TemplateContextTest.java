@@ -0,0 +1,74 @@
+package io.swagger.codegen.mustache;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class TemplateContextTest extends MustacheTestBase {
+
+    @Test(description = "resolves own entries before the shared ones")
+    public void testLayers() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("appName", "Petstore");
+        shared.put("classname", "Shared");
+        TemplateContext context = new TemplateContext(shared);
+        context.put("classname", "Pet");
+
+        assertEquals(context.get("classname"), "Pet");
+        assertEquals(context.get("appName"), "Petstore");
+        assertEquals(context.size(), 2);
+        assertEquals(compile("{{classname}} of {{appName}}", context), "Pet of Petstore");
+
+        context.remove("appName");
+        assertFalse(context.containsKey("appName"));
+        assertEquals(shared.get("appName"), "Petstore");
+        assertEquals(compile("{{classname}} of {{appName}}", context), "Pet of ");
+    }
+
+    @Test(description = "behaves like a copy of the shared entries with the own entries put over them")
+    public void testSameAsCopy() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> shared = new HashMap<>();
+            for (int j = random.nextInt(5); j > 0; j--) {
+                shared.put(key(random), random.nextInt(3));
+            }
+            Map<String, Object> expected = new HashMap<>(shared);
+            TemplateContext context = new TemplateContext(shared);
+            for (int j = random.nextInt(20); j > 0; j--) {
+                String key = key(random);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        assertEquals(context.remove(key), expected.remove(key));
+                        break;
+                    case 1:
+                        Iterator<Map.Entry<String, Object>> iterator = context.entrySet().iterator();
+                        while (iterator.hasNext()) {
+                            if (iterator.next().getKey().equals(key)) {
+                                iterator.remove();
+                            }
+                        }
+                        expected.remove(key);
+                        break;
+                    default:
+                        Object value = random.nextBoolean() ? null : random.nextInt(3);
+                        assertEquals(context.put(key, value), expected.put(key, value));
+                }
+                assertEquals(context, expected);
+                assertEquals(context.copy(), expected);
+                assertEquals(context.size(), expected.size());
+                assertEquals(context.isEmpty(), expected.isEmpty());
+                assertEquals(context.containsKey(key), expected.containsKey(key));
+            }
+        }
+    }
+
+    private static String key(Random random) {
+        return String.valueOf((char) ('a' + random.nextInt(6)));
+    }
+}
@@ -0,0 +1,284 @@
+package io.swagger.codegen.naming;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.testng.annotations.Test;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Compares the naming functions with the regular expression based implementations they replace, over the names
+ * found in the test specs, hand picked names and random names.
+ */
+public class NameUtilsTest {
+
+    private static final String[] NAMES = {
+            "", "a", "A", "_", "-", ".", "/", "$", "[]", "()", "_a", "a_", "__a", "a__b", "--a", "a-", "-_a", "_-a",
+            "pet", "Pet", "petId", "PetId", "pet_id", "pet-id", "pet.id", "pet/id", "pet id", "PET_ID", "HTTPServer",
+            "getHTTPResponseCode", "XMLHttpRequest", "io.swagger.model", "io/swagger/model", "Inner$Class", "$ref",
+            "_links", "@type", "#hash", "input[]", "input[a][b]", "input[[]]", "input(a)(b)", "123abc", "1_a", "a_1",
+            "a1B", "ABCdef", "AbcDEF", "i", "i_i", "ii-i", "title", "\u0131i", "\u00DF_\u00DF", "stra\u00DFe", "na\u00EFve_name", "\u65E5\u672C\u8A9E_\u540D\u524D",
+            "\u01C5_x", "x_\u01C6", "\uD801\uDC28_\uD801\uDC28", "a\\b", "/$", "-$", "a/$b", "a-$b", "a\nb", "a_\nb_1", "a_\u2028b", "a.\u0085b",
+            "\u200C_a", "a\u0301_b", "x:y;z#w", "::", "a::b", "UPPER_CASE_NAME", "lower_case_name", "Mixed_Case-Name",
+    };
+
+    private static final String ALPHABET = "aAbBiIzZ09_-./ $[]():;#@\\\n\u0131\u0130\u00DF\u00E9\u00C9\u65E5\u0301\u200C\u2028";
+
+    @Test
+    public void testSameAsRegexImplementations() throws Exception {
+        for (String name : corpus()) {
+            assertSame(name);
+        }
+    }
+
+    @Test
+    public void testSameAsRegexImplementationsInTurkishLocale() throws Exception {
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            for (String name : corpus()) {
+                assertSame(name);
+            }
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testNameCache() {
+        NameCache cache = new NameCache(2);
+        assertEquals(cache.put("a", "A"), "A");
+        assertEquals(cache.put("b", "B"), "B");
+        assertEquals(cache.put("c", "C"), "C");
+        assertEquals(cache.get("a"), "A");
+        assertEquals(cache.get("c"), null);
+        assertEquals(cache.size(), 2);
+    }
+
+    private static List<String> corpus() throws IOException {
+        final Set<String> names = new LinkedHashSet<String>(Arrays.asList(NAMES));
+
+        // keys and values of the test specs
+        final Pattern token = Pattern.compile("[^\\s:\"',{}]{1,80}");
+        Files.walkFileTree(Paths.get("src/test/resources"), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(".yaml") || fileName.endsWith(".json")) {
+                    Matcher matcher = token.matcher(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                    while (matcher.find()) {
+                        names.add(matcher.group());
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        assertTrue(names.size() > 1000, "only " + names.size() + " names in the corpus");
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int length = random.nextInt(12);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            names.add(sb.toString());
+        }
+        return new ArrayList<String>(names);
+    }
+
+    private static void assertSame(String name) {
+        String quoted = "\"" + StringEscapeUtils.escapeJava(name) + "\"";
+        assertEquals(camelizeResult(name, false), regexCamelizeResult(name, false), "camelize " + quoted);
+        assertEquals(camelizeResult(name, true), regexCamelizeResult(name, true), "camelize lower " + quoted);
+        assertEquals(NameUtils.underscore(name), underscore(name), "underscore " + quoted);
+        assertEquals(NameUtils.dashize(name), dashize(name), "dashize " + quoted);
+        assertEquals(NameUtils.sanitizeName(name, false), sanitizeName(name, false), "sanitizeName " + quoted);
+        assertEquals(NameUtils.sanitizeName(name, true), sanitizeName(name, true), "sanitizeName unicode " + quoted);
+        assertEquals(NameUtils.removeNonNameElementToCamelCase(name, "[-_:;#]"),
+                removeNonNameElementToCamelCase(name, "[-_:;#]"), "removeNonNameElementToCamelCase " + quoted);
+        assertEquals(NameUtils.removeNonNameElementToCamelCase(name, "[-:;#]"),
+                removeNonNameElementToCamelCase(name, "[-:;#]"), "removeNonNameElementToCamelCase -:;# " + quoted);
+        assertEquals(NameUtils.removeNonNameElementToCamelCase(name, "\\W+"),
+                removeNonNameElementToCamelCase(name, "\\W+"), "removeNonNameElementToCamelCase \\W+ " + quoted);
+    }
+
+    /**
+     * @return the camelized name, or the class of the exception camelize throws for it
+     */
+    private static Object camelizeResult(String name, boolean lowercaseFirstLetter) {
+        try {
+            return NameUtils.camelize(name, lowercaseFirstLetter);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static Object regexCamelizeResult(String name, boolean lowercaseFirstLetter) {
+        try {
+            return regexCamelize(name, lowercaseFirstLetter);
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    // the implementations NameUtils replaces, as they were in DefaultCodegen
+
+    private static String regexCamelize(String word, boolean lowercaseFirstLetter) {
+        // Replace all slashes with dots (package separator)
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/);
+            m = p.matcher(word);
+        }
+
+        // case out dots
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
+            m = p.matcher(word);
+        }
+
+        // Uppercase the class name.
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = p.matcher(word);
+        }
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        p = Pattern.compile("(-)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+
+        return word;
+    }
+
+    private static String underscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        // Replace package separator with slash.
+        word = word.replaceAll("\\.", "/");
+        // Replace $ with two underscores for inner classes.
+        word = word.replaceAll("\\$", "__");
+        // Replace capital letter with _ plus lowercase letter.
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        // replace space with underscore
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    private static String dashize(String word) {
+        return underscore(word).replaceAll("[_ ]", "-");
+    }
+
+    private static String sanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        // if the name is just '$', map it to 'value' for the time being.
+        if ("$".equals(name)) {
+            return "value";
+        }
+
+        // input[] => input
+        name = name.replaceAll("\\[\\]", "");
+
+        // input[a][b] => input_a_b
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+
+        // input(a)(b) => input_a_b
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+
+        // input.name => input_name
+        name = name.replaceAll("\\.", "_");
+
+        // input-name => input_name
+        name = name.replaceAll("-", "_");
+
+        // input name and age => input_name_and_age
+        name = name.replaceAll(" ", "_");
+
+        // remove everything else other than word, number and _
+        // $php_variable => php_variable
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W", "");
+        }
+
+        return name;
+    }
+
+    private static String removeNonNameElementToCamelCase(final String name, final String nonNameElementPattern) {
+        String result = StringUtils.join(Lists.transform(Lists.newArrayList(name.split(nonNameElementPattern)), new Function<String, String>() {
+            @Nullable
+            @Override
+            public String apply(String input) {
+                return StringUtils.capitalize(input);
+            }
+        }), "");
+        if (result.length() > 0) {
+            result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        }
+        return result;
+    }
+}
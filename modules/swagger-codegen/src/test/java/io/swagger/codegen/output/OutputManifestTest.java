@@ -0,0 +1,101 @@
+package io.swagger.codegen.output;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.*;
+
+public class OutputManifestTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "hashes with CRC-64/XZ")
+    public void testHash() {
+        assertEquals(OutputManifest.hash("123456789".getBytes(StandardCharsets.US_ASCII)), 0x995DC9BBDF1939FAL);
+        assertEquals(OutputManifest.hash(new byte[0]), 0L);
+    }
+
+    @Test(description = "detects unchanged content of a previously written file across runs")
+    public void testUnchangedAcrossRuns() throws Exception {
+        File output = folder.getRoot();
+        File file = new File(output, "src/Model.java");
+        byte[] content = "class Model {}".getBytes(StandardCharsets.UTF_8);
+        long hash = OutputManifest.hash(content);
+
+        OutputManifest first = OutputManifest.load(output.getAbsolutePath());
+        assertFalse(first.isUnchanged(file, hash));
+        FileUtils.writeByteArrayToFile(file, content);
+        first.recordWritten(file, hash);
+        first.save();
+
+        OutputManifest second = OutputManifest.load(output.getAbsolutePath());
+        assertTrue(second.isUnchanged(file, hash));
+        assertFalse(second.isUnchanged(file, OutputManifest.hash("class Model { int a; }".getBytes(StandardCharsets.UTF_8))));
+        assertEquals(second.getUnchanged(), 1);
+    }
+
+    @Test(description = "rewrites files that were modified or removed since they were generated")
+    public void testModifiedFile() throws Exception {
+        File output = folder.getRoot();
+        File file = new File(output, "README.md");
+        byte[] content = "# readme".getBytes(StandardCharsets.UTF_8);
+        long hash = OutputManifest.hash(content);
+
+        OutputManifest manifest = OutputManifest.load(output.getAbsolutePath());
+        FileUtils.writeByteArrayToFile(file, content);
+        manifest.recordWritten(file, hash);
+
+        FileUtils.writeStringToFile(file, "# edited by hand", StandardCharsets.UTF_8);
+        assertFalse(manifest.isUnchanged(file, hash));
+
+        assertTrue(file.delete());
+        assertFalse(manifest.isUnchanged(file, hash));
+    }
+
+    @Test(description = "hashes streamed output the same as the whole content")
+    public void testHashingOutputStream() throws Exception {
+        byte[] content = "class Pet {\n  String name;\n}\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        HashingOutputStream out = new HashingOutputStream(target);
+        out.write(content, 0, 5);
+        out.write(content[5]);
+        out.write(content, 6, content.length - 6);
+        out.close();
+
+        assertEquals(out.getHash(), OutputManifest.hash(content));
+        assertEquals(target.toByteArray(), content);
+    }
+
+    @Test(description = "tracks files that are still as recorded")
+    public void testTracked() throws Exception {
+        File output = folder.getRoot();
+        File file = new File(output, "pom.xml");
+        byte[] content = "<project/>".getBytes(StandardCharsets.UTF_8);
+
+        OutputManifest manifest = OutputManifest.load(output.getAbsolutePath());
+        assertFalse(manifest.isTracked(file));
+        FileUtils.writeByteArrayToFile(file, content);
+        manifest.recordWritten(file, OutputManifest.hash(content));
+        assertTrue(manifest.isTracked(file));
+
+        FileUtils.writeStringToFile(file, "<project></project>", StandardCharsets.UTF_8);
+        assertFalse(manifest.isTracked(file));
+    }
+}
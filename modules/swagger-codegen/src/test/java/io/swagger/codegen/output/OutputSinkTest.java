@@ -0,0 +1,135 @@
+package io.swagger.codegen.output;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.*;
+
+public class OutputSinkTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test(description = "a file written twice has the content written last, the zip archive refuses to replace it")
+    public void testWriteTwice() throws Exception {
+        File output = folder.getRoot();
+        File file = new File(output, "docs/Pet.md");
+
+        DirectoryOutputSink directory = new DirectoryOutputSink();
+        writeTwice(directory, file);
+        assertTrue(directory.exists(file));
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "second");
+
+        InMemoryOutputSink memory = new InMemoryOutputSink(new File(output, "memory"));
+        File memoryFile = new File(output, "memory/docs/Pet.md");
+        writeTwice(memory, memoryFile);
+        assertTrue(memory.exists(memoryFile));
+        assertEquals(new String(memory.getContent("docs/Pet.md"), StandardCharsets.UTF_8), "second");
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        ZipOutputSink zipSink = new ZipOutputSink(zip, new File(output, "zip"));
+        File zipFile = new File(output, "zip/docs/Pet.md");
+        try {
+            writeTwice(zipSink, zipFile);
+            fail("the zip archive should not replace docs/Pet.md");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("docs/Pet.md"), e.getMessage());
+        }
+        assertTrue(zipSink.exists(zipFile));
+        zipSink.close();
+        Map<String, String> entries = readZip(zip.toByteArray());
+        assertEquals(entries.size(), 1);
+        assertEquals(entries.get("docs/Pet.md"), "first");
+    }
+
+    @Test(description = "an aborted stream leaves the file as it was in every sink")
+    public void testAbortKeepsContent() throws Exception {
+        File output = folder.getRoot();
+        File file = new File(output, "docs/Pet.md");
+
+        DirectoryOutputSink directory = new DirectoryOutputSink();
+        write(directory, file, "first");
+        assertTrue(file.setExecutable(true));
+        writeAborted(directory, file);
+        writeAborted(directory, new File(output, "docs/Tag.md"));
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "first");
+        assertEquals(file.getParentFile().list(), new String[]{"Pet.md"});
+        write(directory, file, "second");
+        assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), "second");
+        assertTrue(file.canExecute());
+
+        InMemoryOutputSink memory = new InMemoryOutputSink(output);
+        write(memory, file, "first");
+        writeAborted(memory, file);
+        writeAborted(memory, new File(output, "docs/Tag.md"));
+        assertEquals(memory.getFiles().size(), 1);
+        assertEquals(new String(memory.getContent("docs/Pet.md"), StandardCharsets.UTF_8), "first");
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        ZipOutputSink zipSink = new ZipOutputSink(zip, output);
+        writeAborted(zipSink, file);
+        write(zipSink, new File(output, "docs/Tag.md"), "first");
+        zipSink.close();
+        Map<String, String> entries = readZip(zip.toByteArray());
+        assertEquals(entries.size(), 1);
+        assertEquals(entries.get("docs/Tag.md"), "first");
+    }
+
+    private static void write(OutputSink sink, File file, String content) throws IOException {
+        OutputStream out = sink.openStream(file);
+        try {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void writeAborted(OutputSink sink, File file) throws IOException {
+        AbortableOutputStream out = sink.openStream(file);
+        out.write("partial".getBytes(StandardCharsets.UTF_8));
+        out.abort();
+    }
+
+    private static void writeTwice(OutputSink sink, File file) throws IOException {
+        write(sink, file, "first");
+        write(sink, file, "second");
+    }
+
+    private static Map<String, String> readZip(byte[] zip) throws IOException {
+        Map<String, String> entries = new HashMap<String, String>();
+        ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip));
+        try {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toString(in, StandardCharsets.UTF_8));
+            }
+        } finally {
+            in.close();
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,241 @@
+package io.swagger.codegen.testutils;
+
+import io.swagger.models.ArrayModel;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Info;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds synthetic Swagger 2.0 specs of a given size and shape for scale tests and benchmarks.
+ * The output only depends on the parameters, so two specs built with the same parameters are equal.
+ *
+ * <ul>
+ * <li>definitions: number of object definitions "ModelA", "ModelB", ...</li>
+ * <li>inheritanceDepth: length of the allOf chains the definitions are arranged in, 0 for none</li>
+ * <li>inlineNesting: depth of the inline object property "details" of every definition</li>
+ * <li>enums: number of string enum definitions "EnumA", "EnumB", ..., referenced by the object definitions</li>
+ * <li>tags and operationsPerTag: api groups and their operations, cycling through list, get,
+ * create, update and delete operations</li>
+ * <li>refFanOut: number of $ref properties from every definition to other definitions</li>
+ * </ul>
+ */
+public class SyntheticSpecBuilder {
+    private static final String[] METHODS = {"list", "get", "create", "update", "delete"};
+
+    private int definitions = 50;
+    private int inheritanceDepth = 2;
+    private int inlineNesting = 1;
+    private int enums = 5;
+    private int tags = 5;
+    private int operationsPerTag = 10;
+    private int refFanOut = 3;
+
+    /**
+     * A spec with roughly the given multiple of the petstore's definitions and operations.
+     *
+     * @param factor Size relative to the petstore
+     * @return the builder
+     */
+    public static SyntheticSpecBuilder petstoreTimes(int factor) {
+        return new SyntheticSpecBuilder()
+                .definitions(6 * factor)
+                .enums(factor)
+                .tags(3 * factor)
+                .operationsPerTag(7);
+    }
+
+    public SyntheticSpecBuilder definitions(int definitions) {
+        this.definitions = definitions;
+        return this;
+    }
+
+    public SyntheticSpecBuilder inheritanceDepth(int inheritanceDepth) {
+        this.inheritanceDepth = inheritanceDepth;
+        return this;
+    }
+
+    public SyntheticSpecBuilder inlineNesting(int inlineNesting) {
+        this.inlineNesting = inlineNesting;
+        return this;
+    }
+
+    public SyntheticSpecBuilder enums(int enums) {
+        this.enums = enums;
+        return this;
+    }
+
+    public SyntheticSpecBuilder tags(int tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    public SyntheticSpecBuilder operationsPerTag(int operationsPerTag) {
+        this.operationsPerTag = operationsPerTag;
+        return this;
+    }
+
+    public SyntheticSpecBuilder refFanOut(int refFanOut) {
+        this.refFanOut = refFanOut;
+        return this;
+    }
+
+    public Swagger build() {
+        Swagger swagger = new Swagger()
+                .info(new Info().title("Synthetic API").version("1.0.0").description("Synthetic spec with " + definitions
+                        + " definitions and " + tags * operationsPerTag + " operations"))
+                .host("synthetic.swagger.io")
+                .basePath("/v1");
+        swagger.setDefinitions(new LinkedHashMap<String, Model>());
+
+        for (int i = 0; i < enums; i++) {
+            ModelImpl model = new ModelImpl().type("string");
+            List<String> values = new ArrayList<String>();
+            for (int v = 0; v < 5; v++) {
+                values.add("VALUE_" + i + "_" + v);
+            }
+            model.setEnum(values);
+            swagger.addDefinition(enumName(i), model);
+        }
+        for (int i = 0; i < definitions; i++) {
+            swagger.addDefinition(modelName(i), model(i));
+        }
+
+        for (int t = 0; t < tags; t++) {
+            String tag = "tag" + t;
+            swagger.addTag(new Tag().name(tag).description("Operations of " + tag));
+            for (int o = 0; o < operationsPerTag; o++) {
+                addOperation(swagger, tag, o, t * operationsPerTag + o);
+            }
+        }
+        return swagger;
+    }
+
+    private Model model(int i) {
+        ModelImpl own = new ModelImpl().type("object");
+        own.addProperty("id", new LongProperty());
+        own.addProperty("name", new StringProperty().example(modelName(i)));
+        own.addProperty("createdAt", new DateTimeProperty());
+        own.setRequired(Arrays.asList("id", "name"));
+        if (enums > 0) {
+            own.addProperty("status", new RefProperty(enumName(i % enums)));
+        }
+        for (int k = 0; k < refFanOut && definitions > 1; k++) {
+            int target = (i * 7 + k * 13 + 1) % definitions;
+            if (target == i) {
+                target = (target + 1) % definitions;
+            }
+            Property ref = new RefProperty(modelName(target));
+            own.addProperty("ref" + k, k % 2 == 0 ? ref : new ArrayProperty(ref));
+        }
+        if (inlineNesting > 0) {
+            own.addProperty("details", inlineObject(i, inlineNesting));
+        }
+
+        int position = inheritanceDepth > 0 ? i % (inheritanceDepth + 1) : 0;
+        if (position == 0) {
+            return own;
+        }
+        ComposedModel composed = new ComposedModel();
+        composed.parent(new RefModel(modelName(i - 1)));
+        composed.child(own);
+        return composed;
+    }
+
+    private ObjectProperty inlineObject(int i, int depth) {
+        Map<String, Property> properties = new LinkedHashMap<String, Property>();
+        properties.put("label", new StringProperty());
+        properties.put("count", new IntegerProperty());
+        if (depth > 1) {
+            properties.put("nested", inlineObject(i, depth - 1));
+        }
+        return new ObjectProperty(properties);
+    }
+
+    private void addOperation(Swagger swagger, String tag, int o, int index) {
+        String resource = "/" + tag + "/resource" + o / METHODS.length;
+        String method = METHODS[o % METHODS.length];
+        String model = modelName(definitions > 0 ? index % definitions : 0);
+        boolean withId = !"list".equals(method) && !"create".equals(method);
+        String pathName = withId ? resource + "/{id}" : resource;
+
+        Operation operation = new Operation()
+                .tag(tag)
+                .operationId(tag + "Op" + o)
+                .summary(method + " " + model)
+                .produces("application/json");
+        if (withId) {
+            operation.parameter(new PathParameter().name("id").type("integer").format("int64"));
+        }
+        Response ok = new Response().description("successful operation");
+        if ("list".equals(method)) {
+            operation.parameter(new QueryParameter().name("limit").type("integer").format("int32"));
+            operation.parameter(new QueryParameter().name("filter").type("string")._enum(Arrays.asList("all", "active", "archived")));
+            ok.setResponseSchema(new ArrayModel().items(new RefProperty(model)));
+        } else if (!"delete".equals(method)) {
+            ok.setResponseSchema(new RefModel(model));
+        }
+        if ("create".equals(method) || "update".equals(method)) {
+            operation.consumes("application/json");
+            operation.parameter(new BodyParameter().name("body").schema(new RefModel(model)));
+        }
+        operation.response(200, ok);
+        operation.response(404, new Response().description("not found"));
+
+        Path path = swagger.getPath(pathName);
+        if (path == null) {
+            path = new Path();
+            swagger.path(pathName, path);
+        }
+        if ("list".equals(method) || "get".equals(method)) {
+            path.get(operation);
+        } else if ("create".equals(method)) {
+            path.post(operation);
+        } else if ("update".equals(method)) {
+            path.put(operation);
+        } else {
+            path.delete(operation);
+        }
+    }
+
+    private static String modelName(int i) {
+        return "Model" + letters(i);
+    }
+
+    private static String enumName(int i) {
+        return "Enum" + letters(i);
+    }
+
+    // the generator does not render models whose name contains a '2', so names use letters only
+    private static String letters(int i) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('A' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return sb.reverse().toString();
+    }
+}
@@ -0,0 +1,96 @@
+package io.swagger.codegen.utils;
+
+import io.swagger.codegen.languages.CSharpClientCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.LumenServerCodegen;
+import io.swagger.codegen.languages.PhpClientCodegen;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Compares the escapers with the chained replace calls they replace, over random texts.
+ */
+public class EscaperTest {
+
+    private static final String ALPHABET = "ab*/-~N12\\\"' \t\n\r\u00e9\u65e5";
+
+    private static final String[][] TABLE = {
+            {"*/", "*_/"}, {"/*", "/_*"}, {"--", "- -"}, {"~~N1", "\n ~~N2"}, {"~~N2", "/*"}, {"aba", "ab"}, {"\\", "\\\\"},
+    };
+
+    @Test
+    public void testSameAsChainedReplace() {
+        Escaper.Builder builder = Escaper.builder();
+        for (String[] replacement : TABLE) {
+            builder.replace(replacement[0], replacement[1]);
+        }
+        Escaper escaper = builder.build();
+
+        for (String text : texts()) {
+            String expected = text;
+            for (String[] replacement : TABLE) {
+                expected = expected.replace(replacement[0], replacement[1]);
+            }
+            assertEquals(escaper.escape(text), expected, "escape \"" + StringEscapeUtils.escapeJava(text) + "\"");
+        }
+    }
+
+    @Test
+    public void testSameAsFormerEscapeText() {
+        JavaClientCodegen java = new JavaClientCodegen();
+        CSharpClientCodegen csharp = new CSharpClientCodegen();
+        LumenServerCodegen php = new LumenServerCodegen();
+        PhpClientCodegen phpClient = new PhpClientCodegen();
+        for (String text : texts()) {
+            String quoted = "\"" + StringEscapeUtils.escapeJava(text) + "\"";
+            String escaped = StringEscapeUtils.unescapeJava(StringEscapeUtils.escapeJava(text).replace("\\/", "/"))
+                    .replaceAll("[\\t\\n\\r]", " ")
+                    .replace("\\", "\\\\")
+                    .replace("\"", "\\\"");
+
+            assertEquals(java.escapeText(text), escaped.replace("*/", "*_/").replace("/*", "/_*"), "java " + quoted);
+            assertEquals(java.escapeQuotationMark(text), text.replace("\"", ""), "java quotation mark " + quoted);
+            assertEquals(csharp.escapeText(text), escaped.replace("*/", "*_/").replace("/*", "/_*").replace("--", "- -")
+                    .replaceAll("~~N1", "\n    /// ").replaceAll("~~N2", "\n        /// "), "csharp " + quoted);
+            assertEquals(php.escapeText(text), escaped.replace("*/", ""), "php " + quoted);
+            assertEquals(php.escapeQuotationMark(text), text.replace("'", ""), "php quotation mark " + quoted);
+            assertEquals(phpClient.escapeText(text), escaped.replace("*/", "*_/").replace("/*", "/_*").trim(),
+                    "php client " + quoted);
+            assertEquals(phpClient.escapeQuotationMark(text), text.replace("'", ""), "php client quotation mark " + quoted);
+        }
+    }
+
+    @Test
+    public void testUnchangedTextIsReturned() {
+        Escaper escaper = Escaper.builder().replace("*/", "*_/").replace("/*", "/_*").build();
+        String text = "a text without comments";
+        assertSame(escaper.escape(text), text);
+        String slashes = "a/b*c";
+        assertSame(escaper.escape(slashes), slashes);
+        assertEquals(escaper.escape(null), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmptyTarget() {
+        Escaper.builder().replace("", "a");
+    }
+
+    private static String[] texts() {
+        Random random = new Random(42);
+        String[] texts = new String[20000];
+        for (int i = 0; i < texts.length; i++) {
+            int length = random.nextInt(16);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            texts[i] = sb.toString();
+        }
+        return texts;
+    }
+}